@@ -1,6 +1,8 @@
 -- 기존에 같은 이름이 있다면 삭제 (에러 방지용)
 DROP TABLE REVIEW CASCADE CONSTRAINTS;
 DROP TABLE PLACE CASCADE CONSTRAINTS;
+DROP TABLE ROUTE_TRENDING_SCORE CASCADE CONSTRAINTS;
+DROP TABLE ROUTE_REVISION CASCADE CONSTRAINTS;
 DROP TABLE MEMBER_LIKE_ROUTE CASCADE CONSTRAINTS;
 DROP TABLE TOKEN CASCADE CONSTRAINTS;
 DROP TABLE ROUTE CASCADE CONSTRAINTS;
@@ -12,13 +14,18 @@ DROP SEQUENCE SEQ_REVIEW_NO;
 DROP SEQUENCE SEQ_TOKEN_ID;
 DROP SEQUENCE SEQ_PLACE_PK;
 DROP SEQUENCE SEQ_LIKE_ID;
+DROP SEQUENCE SEQ_ROUTE_PLACE_ID;
+DROP SEQUENCE SEQ_ROUTE_REVISION_ID;
 
 CREATE SEQUENCE SEQ_MEMBER_ID START WITH 1 INCREMENT BY 1;
-CREATE SEQUENCE SEQ_ROUTE_ID START WITH 1 INCREMENT BY 1;
+-- ROUTE / ROUTE_PLACE 는 JPA pooled 할당(allocationSize = 50)을 사용하므로 INCREMENT BY 50
+CREATE SEQUENCE SEQ_ROUTE_ID START WITH 1 INCREMENT BY 50;
 CREATE SEQUENCE SEQ_REVIEW_NO START WITH 1 INCREMENT BY 1;
 CREATE SEQUENCE SEQ_TOKEN_ID START WITH 1 INCREMENT BY 1;
 CREATE SEQUENCE SEQ_PLACE_PK START WITH 1 INCREMENT BY 1;
 CREATE SEQUENCE SEQ_LIKE_ID START WITH 1 INCREMENT BY 1;
+CREATE SEQUENCE SEQ_ROUTE_PLACE_ID START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE SEQ_ROUTE_REVISION_ID START WITH 1 INCREMENT BY 1;
 
 CREATE TABLE TRAVEL_USER (
     memberid    NUMBER              NOT NULL, -- 시퀀스 사용
@@ -53,6 +60,7 @@ CREATE TABLE ROUTE (
     rt_link         VARCHAR2(500),
     rt_img_name     VARCHAR2(2000),
     rt_visible      CHAR(1)         DEFAULT '1' NOT NULL,
+    like_count      NUMBER          DEFAULT 0,  -- 좋아요 수 (RouteLikeCounter 가 주기적으로 반영)
     CONSTRAINT PK_ROUTE PRIMARY KEY (rt_id),
     CONSTRAINT FK_ROUTE_MEMBER FOREIGN KEY (fk_memberid) REFERENCES "MEMBER"(memberid) ON DELETE CASCADE
 );
@@ -66,6 +74,7 @@ CREATE TABLE MEMBER_LIKE_ROUTE (
     rt_id       NUMBER NOT NULL,
     like_date   DATE DEFAULT SYSDATE,
     CONSTRAINT PK_LIKE PRIMARY KEY (like_id),
+    CONSTRAINT UK_LIKE_MEMBER_ROUTE UNIQUE (memberid, rt_id), -- 같은 일정 중복 좋아요 방지 (MERGE 동시 실행 대비)
     CONSTRAINT FK_LIKE_MEMBER FOREIGN KEY (memberid) REFERENCES "MEMBER"(memberid) ON DELETE CASCADE,
     CONSTRAINT FK_LIKE_ROUTE FOREIGN KEY (rt_id) REFERENCES ROUTE(rt_id) ON DELETE CASCADE
 );
@@ -122,3 +131,39 @@ COMMENT ON COLUMN PLACE.google_place_id IS 'Google Maps Place ID';
 
 
 
+
+-- 인기 일정 점수 체크포인트 (TrendingRouteService)
+CREATE TABLE ROUTE_TRENDING_SCORE (
+    route_id        NUMBER          NOT NULL,
+    score           BINARY_DOUBLE   NOT NULL,
+    checkpoint_at   TIMESTAMP,
+    CONSTRAINT PK_ROUTE_TRENDING_SCORE PRIMARY KEY (route_id)
+);
+
+-- 일정 변경 이력 (RouteRevisionService)
+-- payload: FULL 은 모든 일차, DELTA 는 달라진 일차의 장소 id 목록 (JSON)
+-- 일정 삭제 커밋 후 이력을 지우므로 ROUTE 에 대한 FK 는 두지 않음
+CREATE TABLE ROUTE_REVISION (
+    id              NUMBER          NOT NULL,
+    route_id        NUMBER          NOT NULL,
+    revision_no     NUMBER          NOT NULL,
+    kind            VARCHAR2(10)    NOT NULL,
+    title           VARCHAR2(255),
+    start_date      DATE,
+    end_date        DATE,
+    total_days      NUMBER          NOT NULL,
+    payload         CLOB,
+    created_at      TIMESTAMP,
+    CONSTRAINT PK_ROUTE_REVISION PRIMARY KEY (id),
+    CONSTRAINT UK_ROUTE_REVISION UNIQUE (route_id, revision_no)
+);
+
+-- 장소 사진 순서 (Place.photoReferences @OrderColumn, 목록 대표 사진 = 0번)
+-- 이미 만들어진 place_photo 에는 열을 추가하고 기존 행의 순서를 저장된 순서대로 채움
+ALTER TABLE place_photo ADD photo_order NUMBER;
+MERGE INTO place_photo t
+USING (SELECT ROWID AS rid,
+              ROW_NUMBER() OVER (PARTITION BY place_id ORDER BY ROWID) - 1 AS n
+       FROM place_photo) s
+ON (t.ROWID = s.rid)
+WHEN MATCHED THEN UPDATE SET t.photo_order = s.n;
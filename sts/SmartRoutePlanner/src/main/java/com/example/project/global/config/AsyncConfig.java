@@ -0,0 +1,113 @@
+package com.example.project.global.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * AsyncConfig
+ * ---------------------------------------
+ * 요청 스레드 밖에서 실행되는 작업용 Executor 설정.
+ *
+ * routeStepsExecutor:
+ *  - 하루 일정의 여러 구간(route-steps)을 Google에 동시에 요청할 때 사용
+ *  - 큐가 가득 차면 거절 → 그 구간만 실패로 반환 (요청 스레드에서 실행하면 일괄 조회 마감 시각을 넘길 수 있음)
+ *
+ * routeSummaryExecutor:
+ *  - 일정 저장(커밋) 후 요약 값(거리, 이동 시간 등) 계산에 사용
+ *
+ * routeRevisionExecutor:
+ *  - 일정 저장(커밋) 후 변경 이력(버전) 기록에 사용
+ *
+ * routeGenerateExecutor:
+ *  - AI 일정 생성(Python /optimize) 작업용. 큐가 가득 차면 요청 스레드에서 실행하지 않고 거절한다.
+ *
+ * routeEditExecutor:
+ *  - 공동 편집 연산 반영 / 전파용. 일정(편집방)마다 한 번에 한 작업만 실행된다.
+ *
+ * @Scheduled 주기 작업(인기 일정 체크포인트 등)도 여기서 활성화한다.
+ */
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    @Value("${maps.batch.threads:16}")
+    private int routeStepsThreads;
+
+    @Bean(name = "routeStepsExecutor")
+    public ThreadPoolTaskExecutor routeStepsExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(routeStepsThreads);
+        executor.setMaxPoolSize(routeStepsThreads);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("route-steps-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Value("${route.summary.threads:2}")
+    private int routeSummaryThreads;
+
+    @Bean(name = "routeSummaryExecutor")
+    public ThreadPoolTaskExecutor routeSummaryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(routeSummaryThreads);
+        executor.setMaxPoolSize(routeSummaryThreads);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("route-summary-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Value("${route.revision.threads:2}")
+    private int routeRevisionThreads;
+
+    @Bean(name = "routeRevisionExecutor")
+    public ThreadPoolTaskExecutor routeRevisionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(routeRevisionThreads);
+        executor.setMaxPoolSize(routeRevisionThreads);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("route-revision-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Value("${route.generate.threads:4}")
+    private int routeGenerateThreads;
+
+    @Value("${route.generate.queue-capacity:100}")
+    private int routeGenerateQueueCapacity;
+
+    @Bean(name = "routeGenerateExecutor")
+    public ThreadPoolTaskExecutor routeGenerateExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(routeGenerateThreads);
+        executor.setMaxPoolSize(routeGenerateThreads);
+        executor.setQueueCapacity(routeGenerateQueueCapacity);
+        executor.setThreadNamePrefix("route-generate-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Value("${route.edit.threads:4}")
+    private int routeEditThreads;
+
+    @Bean(name = "routeEditExecutor")
+    public ThreadPoolTaskExecutor routeEditExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(routeEditThreads);
+        executor.setMaxPoolSize(routeEditThreads);
+        executor.setThreadNamePrefix("route-edit-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.project.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JpaConfig
+ * ---------------------------------------
+ * Hibernate JDBC 배치 설정.
+ *
+ *  - jdbc.batch_size: 한 번에 전송할 INSERT/UPDATE 묶음 크기
+ *  - order_inserts / order_updates: 엔티티 종류별로 정렬해 배치가 끊기지 않게 함
+ *
+ * application.properties 는 저장소에 포함되지 않으므로 코드에서 기본값을 지정한다.
+ */
+@Configuration
+public class JpaConfig {
+
+    @Value("${jpa.batch-size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+            properties.putIfAbsent("hibernate.jdbc.batch_versioned_data", true);
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.project.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import com.example.project.route.controller.RouteEditSocketHandler;
+import com.example.project.security.config.JwtHandshakeInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * WebSocketConfig
+ * ---------------------------------------
+ * 일정 공동 편집 WebSocket 등록.
+ *
+ *  - /ws/route/{routeId}?token={JWT}
+ *  - 인증은 핸드셰이크에서 JwtHandshakeInterceptor 가 처리 (SecurityConfiguration 에서는 /ws/** 허용)
+ *  - 허용 Origin 은 WebConfig 의 CORS 설정과 같게 맞춘다.
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final RouteEditSocketHandler routeEditSocketHandler;
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(routeEditSocketHandler, "/ws/route/*")
+                .addInterceptors(jwtHandshakeInterceptor)
+                .setAllowedOrigins(
+                        "http://localhost:5173",
+                        "http://172.16.250.69:5173",
+                        "http://localhost:3000"
+                );
+    }
+}
@@ -2,25 +2,38 @@
 
 package com.example.project.global.controller;
 
+import java.util.List;
 import java.util.Map;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
+
+import com.example.project.global.maps.RouteLegResultDto;
+import com.example.project.global.maps.RoutePolylineTransformer;
+import com.example.project.global.maps.RouteStepsBatchRequestDto;
+import com.example.project.global.maps.RouteStepsBatchService;
+import com.example.project.global.maps.RouteStepsService;
+
+import lombok.RequiredArgsConstructor;
 
 @RestController
 @RequestMapping("/api/maps")
+@RequiredArgsConstructor
 public class MapsProxyController {
 
-    @Value("${google.maps.apiKey}")
-    private String googleApiKey;
-
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RouteStepsService routeStepsService;
+    private final RouteStepsBatchService routeStepsBatchService;
+    private final RoutePolylineTransformer routePolylineTransformer;
 
+    /**
+     * 구간 경로 조회
+     * simplify(미터) / merge 옵션을 주면 polyline 을 서버에서 단순화·병합해서 반환한다.
+     */
     @PostMapping("/route-steps")
-    public ResponseEntity<String> routeSteps(@RequestBody Map<String, Object> body) {
-        String url = "https://routes.googleapis.com/directions/v2:computeRoutes";
+    public ResponseEntity<String> routeSteps(
+            @RequestBody Map<String, Object> body,
+            @RequestParam(value = "simplify", required = false) Double simplify,
+            @RequestParam(value = "merge", defaultValue = "false") boolean merge) {
 
         Map<String, Object> origin = (Map<String, Object>) body.get("origin");
         Map<String, Object> destination = (Map<String, Object>) body.get("destination");
@@ -28,29 +41,31 @@ public class MapsProxyController {
         String travelMode = (String) body.getOrDefault("travelMode", "WALK");
         String languageCode = (String) body.getOrDefault("languageCode", "ko-KR");
 
-        Map<String, Object> reqBody = Map.of(
-            "origin", Map.of("location", Map.of("latLng", Map.of(
-                "latitude", origin.get("lat"),
-                "longitude", origin.get("lng")
-            ))),
-            "destination", Map.of("location", Map.of("latLng", Map.of(
-                "latitude", destination.get("lat"),
-                "longitude", destination.get("lng")
-            ))),
-            "travelMode", travelMode,
-            "languageCode", languageCode
+        // 같은 구간은 캐시된 응답 본문을 그대로 반환
+        ResponseEntity<String> resp = routeStepsService.computeRoute(
+            ((Number) origin.get("lat")).doubleValue(),
+            ((Number) origin.get("lng")).doubleValue(),
+            ((Number) destination.get("lat")).doubleValue(),
+            ((Number) destination.get("lng")).doubleValue(),
+            travelMode,
+            languageCode
         );
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("X-Goog-Api-Key", googleApiKey);
-        headers.set("X-Goog-FieldMask",
-            "routes.distanceMeters,routes.duration,routes.legs.steps.polyline.encodedPolyline,routes.legs.steps.navigationInstruction.instructions"
-        );
-
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(reqBody, headers);
+        if (routePolylineTransformer.isNoop(simplify, merge)) {
+            return resp;
+        }
+        return ResponseEntity.status(resp.getStatusCode())
+                .body(routePolylineTransformer.transform(resp.getBody(), simplify, merge));
+    }
 
-        ResponseEntity<String> resp = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
-        return ResponseEntity.status(resp.getStatusCode()).body(resp.getBody());
+    /**
+     * 하루 일정의 모든 구간을 한 번에 조회
+     * stops 순서대로 연속된 두 지점마다 구간 1개를 동시에 계산하고,
+     * 구간별 상태(OK / ERROR)를 순서대로 반환한다.
+     */
+    @PostMapping("/route-steps/batch")
+    public List<RouteLegResultDto> routeStepsBatch(@RequestBody RouteStepsBatchRequestDto dto) {
+        return routeStepsBatchService.computeLegs(
+                dto.getStops(), dto.getTravelMode(), dto.getLanguageCode(), dto.getSimplify(), dto.isMerge());
     }
 }
@@ -0,0 +1,8 @@
+package com.example.project.global.exception;
+
+public class GenerationJobNotFoundException extends CustomException {
+
+    public GenerationJobNotFoundException() {
+        super("Generation job not found", "GENERATION_JOB_NOT_FOUND");
+    }
+}
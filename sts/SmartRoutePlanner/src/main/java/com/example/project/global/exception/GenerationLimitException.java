@@ -0,0 +1,8 @@
+package com.example.project.global.exception;
+
+public class GenerationLimitException extends CustomException {
+
+    public GenerationLimitException() {
+        super("Too many generation jobs in progress", "GENERATION_LIMIT");
+    }
+}
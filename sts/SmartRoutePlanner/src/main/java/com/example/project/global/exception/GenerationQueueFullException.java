@@ -0,0 +1,8 @@
+package com.example.project.global.exception;
+
+public class GenerationQueueFullException extends CustomException {
+
+    public GenerationQueueFullException() {
+        super("Generation queue is full", "GENERATION_QUEUE_FULL");
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.project.global.exception;
+
+public class IdempotencyInProgressException extends CustomException {
+
+    public IdempotencyInProgressException() {
+        super("Request with this Idempotency-Key is still in progress", "IDEMPOTENCY_IN_PROGRESS");
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.project.global.exception;
+
+public class IdempotencyKeyReusedException extends CustomException {
+
+    public IdempotencyKeyReusedException() {
+        super("Idempotency-Key was already used with a different request", "IDEMPOTENCY_KEY_REUSED");
+    }
+}
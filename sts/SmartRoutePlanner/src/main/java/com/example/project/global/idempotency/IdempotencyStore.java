@@ -0,0 +1,176 @@
+package com.example.project.global.idempotency;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.example.project.global.exception.IdempotencyInProgressException;
+import com.example.project.global.exception.IdempotencyKeyReusedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * IdempotencyStore
+ * ---------------------------------------
+ * Idempotency-Key 헤더가 있는 쓰기 요청의 결과를 보관해 재시도에 그대로 돌려준다. (메모리)
+ *
+ * 동작:
+ *  - 키는 scope(엔드포인트 + 회원) 안에서만 유효 → 다른 회원의 키와 섞이지 않음
+ *  - 처음 온 요청만 실행하고, 실행 중에 같은 키로 온 요청은 그 결과를 기다렸다가 같은 값을 받음
+ *  - 성공한 결과는 ttl-minutes 동안 보관, 실패하면 보관하지 않음 (재시도 시 다시 실행)
+ *  - 같은 키에 다른 요청 본문이 오면 IdempotencyKeyReusedException
+ *  - 최대 max-size 개, 넘으면 끝난 항목 중 오래된 것부터 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${idempotency.max-size:10000}")
+    private int maxSize;
+
+    @Value("${idempotency.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    @Value("${idempotency.wait-seconds:60}")
+    private long waitSeconds;
+
+    /** 넣은 순서 유지 (앞쪽이 오래된 항목) */
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256);
+
+    /**
+     * key 가 없으면 action 을 그대로 실행,
+     * 있으면 같은 scope·key 의 첫 실행 결과를 공유한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, String scope, Object request, Supplier<T> action) {
+
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+
+        String entryKey = scope + ":" + key;
+        Entry mine = new Entry(fingerprint(request));
+        Entry existing;
+
+        synchronized (entries) {
+            existing = entries.get(entryKey);
+            if (existing != null && existing.isExpired(System.currentTimeMillis())) {
+                entries.remove(entryKey);
+                existing = null;
+            }
+            if (existing == null) {
+                entries.put(entryKey, mine);
+                evictOverflow();
+            }
+        }
+
+        if (existing != null) {
+            if (!existing.fingerprint.equals(mine.fingerprint)) {
+                throw new IdempotencyKeyReusedException();
+            }
+            return (T) await(existing);
+        }
+
+        try {
+            T result = action.get();
+            mine.expiresAt = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(ttlMinutes);
+            mine.future.complete(result);
+            synchronized (entries) {
+                evictOverflow();
+            }
+            return result;
+        } catch (RuntimeException e) {
+            synchronized (entries) {
+                entries.remove(entryKey, mine);
+            }
+            mine.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /** 만료된 항목 정리 */
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.isExpired(now));
+        }
+    }
+
+    /**
+     * max-size 를 넘으면 끝난 항목 중 오래된 것부터 size 가 max-size 이하가 될 때까지 제거.
+     * 실행 중인 항목은 건너뜀 (지우면 같은 요청이 다시 실행됨) → 끝나는 시점에 다시 호출
+     * (entries 락 안에서 호출)
+     */
+    private void evictOverflow() {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        Iterator<Entry> it = entries.values().iterator();
+        while (entries.size() > maxSize && it.hasNext()) {
+            if (it.next().future.isDone()) {
+                it.remove();
+            }
+        }
+    }
+
+    private Object await(Entry entry) {
+        try {
+            return entry.future.get(waitSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyInProgressException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyInProgressException();
+        }
+    }
+
+    /** 요청 본문 MD5 (본문이 없으면 빈 문자열) */
+    private String fingerprint(Object request) {
+        if (request == null) {
+            return "";
+        }
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("요청 본문 직렬화 실패", e);
+        }
+    }
+
+    private static final class Entry {
+        final String fingerprint;
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        /** 실행 중에는 만료되지 않음 */
+        volatile long expiresAt = Long.MAX_VALUE;
+
+        Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        boolean isExpired(long now) {
+            return now > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.project.global.maps;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 위도/경도 한 지점
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatLngDto {
+    private double lat;
+    private double lng;
+}
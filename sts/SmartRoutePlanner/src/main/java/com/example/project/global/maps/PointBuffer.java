@@ -0,0 +1,49 @@
+package com.example.project.global.maps;
+
+import java.util.Arrays;
+
+/**
+ * PointBuffer
+ * ---------------------------------------
+ * E5 정수 좌표를 [lat0, lng0, lat1, lng1, ...] 형태로 담는 가변 int 배열.
+ * 점마다 객체를 만들지 않기 위해 사용한다.
+ */
+public final class PointBuffer {
+
+    private int[] coords;
+    private int size;
+
+    public PointBuffer() {
+        this(64);
+    }
+
+    public PointBuffer(int initialPoints) {
+        this.coords = new int[Math.max(initialPoints, 4) * 2];
+    }
+
+    public void add(int lat, int lng) {
+        if ((size + 1) * 2 > coords.length) {
+            coords = Arrays.copyOf(coords, coords.length * 2);
+        }
+        coords[size * 2] = lat;
+        coords[size * 2 + 1] = lng;
+        size++;
+    }
+
+    public int lat(int i) {
+        return coords[i * 2];
+    }
+
+    public int lng(int i) {
+        return coords[i * 2 + 1];
+    }
+
+    /** 점 개수 */
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
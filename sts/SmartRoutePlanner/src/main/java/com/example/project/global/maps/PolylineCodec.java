@@ -0,0 +1,108 @@
+package com.example.project.global.maps;
+
+/**
+ * PolylineCodec
+ * ---------------------------------------
+ * Google Encoded Polyline 인코딩/디코딩.
+ *
+ * 좌표는 1e5 배 한 정수(E5)로 다룬다.
+ *  - 인코딩 포맷 자체가 E5 정수 기반이라 double 변환 없이 손실 없이 왕복 가능
+ *  - 점 목록은 PointBuffer(int 배열)에 담아 객체 할당을 최소화
+ */
+public final class PolylineCodec {
+
+    /** readValue 실패 표시 (잘린 문자열, 잘못된 문자) */
+    private static final long INVALID = Long.MIN_VALUE;
+
+    private PolylineCodec() {
+    }
+
+    /**
+     * encoded 를 디코딩하여 out 뒤에 이어 붙인다.
+     * skipDuplicateStart 가 true 이면 첫 점이 out 의 마지막 점과 같을 때 건너뛴다.
+     * (연속된 step 을 이어 붙일 때 이음매 중복 제거용)
+     *
+     * 잘리거나 잘못된 문자열이면 온전한 마지막 점까지만 디코딩하고 멈춘다. (예외 없음)
+     */
+    public static void decode(String encoded, PointBuffer out, boolean skipDuplicateStart) {
+        int len = encoded.length();
+        int[] pos = { 0 };
+        int lat = 0;
+        int lng = 0;
+        boolean first = true;
+
+        while (pos[0] < len) {
+            long dLat = readValue(encoded, pos);
+            long dLng = dLat != INVALID ? readValue(encoded, pos) : INVALID;
+            if (dLng == INVALID) {
+                return;
+            }
+            lat += (int) dLat;
+            lng += (int) dLng;
+
+            if (first && skipDuplicateStart && out.size() > 0
+                    && out.lat(out.size() - 1) == lat && out.lng(out.size() - 1) == lng) {
+                first = false;
+                continue;
+            }
+            first = false;
+            out.add(lat, lng);
+        }
+    }
+
+    /**
+     * pos[0] 위치의 값 하나를 읽고 pos[0] 을 다음 위치로 옮긴다.
+     * 문자열이 값 중간에서 끝나거나, 범위 밖 문자이거나, 32비트를 넘으면 INVALID
+     */
+    private static long readValue(String encoded, int[] pos) {
+        int index = pos[0];
+        int result = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (index >= encoded.length() || shift > 30) {
+                return INVALID;
+            }
+            b = encoded.charAt(index++) - 63;
+            if (b < 0 || b > 0x3f) {
+                return INVALID;
+            }
+            result |= (b & 0x1f) << shift;
+            shift += 5;
+        } while (b >= 0x20);
+
+        pos[0] = index;
+        return (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+    }
+
+    /**
+     * keep[i] 가 true 인 점만 인코딩한다. (keep 이 null 이면 전체)
+     */
+    public static String encode(PointBuffer points, boolean[] keep) {
+        StringBuilder sb = new StringBuilder(points.size() * 4);
+        int prevLat = 0;
+        int prevLng = 0;
+
+        for (int i = 0; i < points.size(); i++) {
+            if (keep != null && !keep[i]) {
+                continue;
+            }
+            int lat = points.lat(i);
+            int lng = points.lng(i);
+            encodeValue(lat - prevLat, sb);
+            encodeValue(lng - prevLng, sb);
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return sb.toString();
+    }
+
+    private static void encodeValue(int value, StringBuilder sb) {
+        int v = value < 0 ? ~(value << 1) : (value << 1);
+        while (v >= 0x20) {
+            sb.append((char) ((0x20 | (v & 0x1f)) + 63));
+            v >>>= 5;
+        }
+        sb.append((char) (v + 63));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.project.global.maps;
+
+import java.util.Arrays;
+
+/**
+ * PolylineSimplifier
+ * ---------------------------------------
+ * Douglas–Peucker 알고리즘으로 polyline 의 점 수를 줄인다.
+ *
+ * 특징:
+ *  - 재귀 대신 int 스택을 사용 (긴 장거리 경로에서도 스택 오버플로 없음)
+ *  - 좌표는 첫 점 기준 등장방형 투영으로 미터 단위 평면 좌표로 환산하여
+ *    tolerance(미터) 를 그대로 비교한다.
+ */
+public final class PolylineSimplifier {
+
+    /** E5 정수 1 단위의 위도 방향 거리 (미터) */
+    private static final double METERS_PER_E5 = 111_320.0 / 1e5;
+
+    private PolylineSimplifier() {
+    }
+
+    /**
+     * 유지할 점 표시 배열을 반환한다. (양 끝 점은 항상 유지)
+     */
+    public static boolean[] simplify(PointBuffer points, double toleranceMeters) {
+        int n = points.size();
+        boolean[] keep = new boolean[n];
+        if (n <= 2 || toleranceMeters <= 0) {
+            Arrays.fill(keep, true);
+            return keep;
+        }
+
+        double lngScale = Math.cos(Math.toRadians(points.lat(0) / 1e5)) * METERS_PER_E5;
+        double tolSq = toleranceMeters * toleranceMeters;
+
+        keep[0] = true;
+        keep[n - 1] = true;
+
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = n - 1;
+
+        while (top > 0) {
+            int end = stack[--top];
+            int start = stack[--top];
+
+            double ax = points.lng(start) * lngScale;
+            double ay = points.lat(start) * METERS_PER_E5;
+            double bx = points.lng(end) * lngScale;
+            double by = points.lat(end) * METERS_PER_E5;
+
+            double maxDistSq = -1;
+            int maxIndex = -1;
+
+            for (int i = start + 1; i < end; i++) {
+                double d = segmentDistanceSq(
+                        points.lng(i) * lngScale, points.lat(i) * METERS_PER_E5, ax, ay, bx, by);
+                if (d > maxDistSq) {
+                    maxDistSq = d;
+                    maxIndex = i;
+                }
+            }
+
+            if (maxIndex >= 0 && maxDistSq > tolSq) {
+                keep[maxIndex] = true;
+                if (top + 4 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = start;
+                stack[top++] = maxIndex;
+                stack[top++] = maxIndex;
+                stack[top++] = end;
+            }
+        }
+        return keep;
+    }
+
+    /** 점 p 와 선분 ab 사이 거리의 제곱 */
+    private static double segmentDistanceSq(double px, double py,
+                                            double ax, double ay,
+                                            double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lenSq = dx * dx + dy * dy;
+
+        double t = lenSq == 0 ? 0 : ((px - ax) * dx + (py - ay) * dy) / lenSq;
+        if (t < 0) {
+            t = 0;
+        } else if (t > 1) {
+            t = 1;
+        }
+
+        double cx = ax + t * dx - px;
+        double cy = ay + t * dy - py;
+        return cx * cx + cy * cy;
+    }
+}
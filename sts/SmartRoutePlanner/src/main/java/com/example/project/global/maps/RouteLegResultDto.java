@@ -0,0 +1,38 @@
+package com.example.project.global.maps;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * RouteLegResultDto
+ * ---------------------------------------
+ * 배치 요청에서 구간 1개의 결과.
+ *
+ *  - index: 구간 순서 (stops[index] → stops[index + 1])
+ *  - status: OK / ERROR
+ *  - httpStatus: Google 응답 코드 (호출 자체가 실패하면 0)
+ *  - body: Google 응답 JSON 원문 (OK 일 때)
+ *  - error: 실패 사유 (ERROR 일 때)
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RouteLegResultDto {
+
+    public static final String OK = "OK";
+    public static final String ERROR = "ERROR";
+
+    private int index;
+    private String status;
+    private int httpStatus;
+
+    @JsonRawValue
+    private String body;
+
+    private String error;
+}
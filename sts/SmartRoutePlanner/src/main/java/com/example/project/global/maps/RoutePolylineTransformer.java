@@ -0,0 +1,123 @@
+package com.example.project.global.maps;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * RoutePolylineTransformer
+ * ---------------------------------------
+ * computeRoutes 응답의 step polyline 을 서버에서 가공한다.
+ *
+ * 옵션:
+ *  - simplify (미터): Douglas–Peucker 허용 오차. 0 이하이면 단순화하지 않음
+ *  - merge: true 이면 leg 의 모든 step polyline 을 하나로 합쳐
+ *           legs[].polyline.encodedPolyline 에 담고 step 별 polyline 은 제거
+ *           (안내 문구 navigationInstruction 은 그대로 유지)
+ *
+ * 캐시에는 원본 응답이 저장되고, 가공은 응답 직전에 수행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoutePolylineTransformer {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 가공이 필요 없는 요청인지 여부
+     */
+    public boolean isNoop(Double simplify, boolean merge) {
+        return !merge && (simplify == null || simplify <= 0);
+    }
+
+    public String transform(String body, Double simplify, boolean merge) {
+        if (body == null || isNoop(simplify, merge)) {
+            return body;
+        }
+
+        double tolerance = simplify != null ? simplify : 0;
+
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            PointBuffer buffer = new PointBuffer(256);
+
+            for (JsonNode route : root.path("routes")) {
+                for (JsonNode leg : route.path("legs")) {
+                    if (merge) {
+                        mergeLeg((ObjectNode) leg, buffer, tolerance);
+                    } else {
+                        simplifySteps(leg, buffer, tolerance);
+                    }
+                }
+            }
+            return objectMapper.writeValueAsString(root);
+
+        } catch (JsonProcessingException e) {
+            // 해석할 수 없는 응답은 원본 그대로 전달
+            return body;
+        }
+    }
+
+    /**
+     * 응답의 첫 번째 경로(routes[0]) step polyline 좌표를 순서대로 out 에 추가
+     * 해석할 수 없는 응답이면 아무것도 추가하지 않는다.
+     */
+    public void appendRoutePoints(String body, PointBuffer out) {
+        if (body == null) {
+            return;
+        }
+        try {
+            JsonNode route = objectMapper.readTree(body).path("routes").path(0);
+            for (JsonNode leg : route.path("legs")) {
+                for (JsonNode step : leg.path("steps")) {
+                    JsonNode encoded = step.path("polyline").path("encodedPolyline");
+                    if (encoded.isTextual()) {
+                        PolylineCodec.decode(encoded.asText(), out, true);
+                    }
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // 무시: 호출한 쪽에서 직선 구간으로 대체
+        }
+    }
+
+    /** leg 의 step polyline 을 하나로 합친 뒤 단순화 */
+    private void mergeLeg(ObjectNode leg, PointBuffer buffer, double tolerance) {
+        buffer.clear();
+
+        for (JsonNode step : leg.path("steps")) {
+            JsonNode encoded = step.path("polyline").path("encodedPolyline");
+            if (encoded.isTextual()) {
+                PolylineCodec.decode(encoded.asText(), buffer, true);
+            }
+            if (step instanceof ObjectNode stepNode) {
+                stepNode.remove("polyline");
+            }
+        }
+
+        boolean[] keep = PolylineSimplifier.simplify(buffer, tolerance);
+        leg.putObject("polyline").put("encodedPolyline", PolylineCodec.encode(buffer, keep));
+    }
+
+    /** step 별 polyline 을 각각 단순화 */
+    private void simplifySteps(JsonNode leg, PointBuffer buffer, double tolerance) {
+        for (JsonNode step : leg.path("steps")) {
+            JsonNode polyline = step.path("polyline");
+            JsonNode encoded = polyline.path("encodedPolyline");
+            if (!encoded.isTextual() || !(polyline instanceof ObjectNode polylineNode)) {
+                continue;
+            }
+
+            buffer.clear();
+            PolylineCodec.decode(encoded.asText(), buffer, false);
+
+            boolean[] keep = PolylineSimplifier.simplify(buffer, tolerance);
+            polylineNode.put("encodedPolyline", PolylineCodec.encode(buffer, keep));
+        }
+    }
+}
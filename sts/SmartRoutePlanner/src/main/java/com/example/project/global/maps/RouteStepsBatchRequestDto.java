@@ -0,0 +1,26 @@
+package com.example.project.global.maps;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * RouteStepsBatchRequestDto
+ * ---------------------------------------
+ * 하루 일정의 구간 경로를 한 번에 요청하는 DTO.
+ *
+ * stops: 방문 순서대로 나열한 지점 목록
+ *        연속된 두 지점마다 구간 1개 (stops.size() - 1 개)
+ * simplify, merge: polyline 단순화(미터)/병합 옵션 (RoutePolylineTransformer 참고)
+ */
+@Data
+@NoArgsConstructor
+public class RouteStepsBatchRequestDto {
+
+    private List<LatLngDto> stops;
+    private String travelMode = "WALK";
+    private String languageCode = "ko-KR";
+    private Double simplify;
+    private boolean merge;
+}
@@ -0,0 +1,148 @@
+package com.example.project.global.maps;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
+
+/**
+ * RouteStepsBatchService
+ * ---------------------------------------
+ * 하루 일정의 모든 구간(연속된 두 지점)을 동시에 조회한다.
+ *
+ * 동작:
+ *  - 같은 구간(캐시 키가 같은 구간)은 한 번만 조회하고 결과를 공유
+ *  - 각 구간은 RouteStepsService를 거치므로 캐시된 구간은 Google 호출 없음
+ *  - 구간별로 OK / ERROR 상태를 돌려주어 일부 실패가 전체 실패가 되지 않음
+ *  - 일괄 조회 전체에 timeout-seconds 하나의 마감 시각을 두고 (요청 시작 전부터 계산),
+ *    마감까지 끝나지 않은 구간은 취소(스레드 인터럽트, 대기 중이면 실행 안 함)하고 timeout 으로 반환
+ *  - executor 가 가득 차면 요청 스레드에서 대신 실행하지 않고 그 구간만 busy 로 반환 (마감 시각을 지키기 위해)
+ *  - travelMode / languageCode 는 허용된 값만 (RouteStepsService.checkOptions)
+ */
+@Service
+public class RouteStepsBatchService {
+
+    private final RouteStepsService routeStepsService;
+    private final RouteStepsCache routeStepsCache;
+    private final RoutePolylineTransformer routePolylineTransformer;
+    private final ThreadPoolTaskExecutor routeStepsExecutor;
+
+    @Value("${maps.batch.timeout-seconds:15}")
+    private long timeoutSeconds;
+
+    public RouteStepsBatchService(RouteStepsService routeStepsService,
+                                  RouteStepsCache routeStepsCache,
+                                  RoutePolylineTransformer routePolylineTransformer,
+                                  @Qualifier("routeStepsExecutor") ThreadPoolTaskExecutor routeStepsExecutor) {
+        this.routeStepsService = routeStepsService;
+        this.routeStepsCache = routeStepsCache;
+        this.routePolylineTransformer = routePolylineTransformer;
+        this.routeStepsExecutor = routeStepsExecutor;
+    }
+
+    /**
+     * stops[i] → stops[i + 1] 구간들을 동시에 조회하고 순서대로 반환
+     */
+    public List<RouteLegResultDto> computeLegs(List<LatLngDto> stops, String travelMode, String languageCode) {
+        return computeLegs(stops, travelMode, languageCode, null, false);
+    }
+
+    /**
+     * 구간 일괄 조회 + polyline 단순화/병합
+     */
+    public List<RouteLegResultDto> computeLegs(List<LatLngDto> stops, String travelMode, String languageCode,
+                                               Double simplify, boolean merge) {
+
+        List<RouteLegResultDto> results = new ArrayList<>();
+        if (stops == null || stops.size() < 2) {
+            return results;
+        }
+        routeStepsService.checkOptions(travelMode, languageCode);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+        // 1. 구간별 요청 시작 (중복 구간은 같은 Future 공유)
+        Map<String, Future<ResponseEntity<String>>> inFlight = new HashMap<>();
+        List<Future<ResponseEntity<String>>> legs = new ArrayList<>();
+
+        for (int i = 0; i < stops.size() - 1; i++) {
+            LatLngDto from = stops.get(i);
+            LatLngDto to = stops.get(i + 1);
+
+            String key = routeStepsCache.key(from.getLat(), from.getLng(), to.getLat(), to.getLng(), travelMode, languageCode);
+
+            legs.add(inFlight.computeIfAbsent(key, k -> submit(
+                    () -> routeStepsService.computeRoute(
+                            from.getLat(), from.getLng(), to.getLat(), to.getLng(), travelMode, languageCode))));
+        }
+
+        // 2. 순서대로 결과 수집 (전체 마감 시각까지 남은 시간만 기다림)
+        try {
+            for (int i = 0; i < legs.size(); i++) {
+                results.add(toResult(i, legs.get(i), deadline, simplify, merge));
+            }
+        } finally {
+            // 마감을 넘긴 구간은 실행 스레드를 붙잡지 않도록 취소
+            for (Future<ResponseEntity<String>> leg : inFlight.values()) {
+                leg.cancel(true);
+            }
+        }
+        return results;
+    }
+
+    /** executor 가 거절하면 실패한 Future 로 대신함 (요청 스레드에서 실행하지 않음) */
+    private Future<ResponseEntity<String>> submit(Callable<ResponseEntity<String>> leg) {
+        try {
+            return routeStepsExecutor.submit(leg);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private RouteLegResultDto toResult(int index, Future<ResponseEntity<String>> leg, long deadline,
+                                       Double simplify, boolean merge) {
+        try {
+            long remaining = Math.max(deadline - System.nanoTime(), 0);
+            ResponseEntity<String> resp = leg.get(remaining, TimeUnit.NANOSECONDS);
+            int status = resp.getStatusCode().value();
+
+            if (resp.getStatusCode().is2xxSuccessful()) {
+                String body = routePolylineTransformer.transform(resp.getBody(), simplify, merge);
+                return new RouteLegResultDto(index, RouteLegResultDto.OK, status, body, null);
+            }
+            return new RouteLegResultDto(index, RouteLegResultDto.ERROR, status, null, resp.getBody());
+
+        } catch (TimeoutException | CancellationException e) {
+            return new RouteLegResultDto(index, RouteLegResultDto.ERROR, 0, null, "timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new RouteLegResultDto(index, RouteLegResultDto.ERROR, 0, null, "interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+
+            if (cause instanceof RejectedExecutionException) {
+                return new RouteLegResultDto(index, RouteLegResultDto.ERROR, 0, null, "busy");
+            }
+            if (cause instanceof HttpStatusCodeException httpError) {
+                return new RouteLegResultDto(index, RouteLegResultDto.ERROR,
+                        httpError.getStatusCode().value(), null, httpError.getResponseBodyAsString());
+            }
+            return new RouteLegResultDto(index, RouteLegResultDto.ERROR, 0, null, cause.getMessage());
+        }
+    }
+}
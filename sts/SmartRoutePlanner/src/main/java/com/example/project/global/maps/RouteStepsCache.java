@@ -0,0 +1,89 @@
+package com.example.project.global.maps;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * RouteStepsCache
+ * ---------------------------------------
+ * Google Routes API(computeRoutes) 응답 본문을 그대로 보관하는 메모리 캐시.
+ *
+ * 키:
+ *  - 출발/도착 좌표를 precision 자리로 반올림한 값 + travelMode + languageCode
+ *  - 같은 두 장소 사이의 구간은 바뀌지 않으므로 좌표가 미세하게 달라도 같은 키로 묶인다.
+ *
+ * 정책:
+ *  - maxSize 초과 시 가장 오래 사용하지 않은 항목부터 제거 (LRU)
+ *  - ttlSeconds 가 지난 항목은 조회 시점에 제거
+ */
+@Component
+public class RouteStepsCache {
+
+    /** 좌표 반올림 자리수 (5자리 ≒ 1.1m) */
+    @Value("${maps.route-cache.precision:5}")
+    private int precision;
+
+    @Value("${maps.route-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${maps.route-cache.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    private final Map<String, CachedBody> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedBody> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    /**
+     * 캐시 키 생성
+     * 좌표는 precision 자리로 양자화한 정수값을 사용한다.
+     */
+    public String key(double originLat, double originLng,
+                      double destLat, double destLng,
+                      String travelMode, String languageCode) {
+
+        double scale = Math.pow(10, precision);
+
+        return Math.round(originLat * scale) + "," + Math.round(originLng * scale)
+                + ">" + Math.round(destLat * scale) + "," + Math.round(destLng * scale)
+                + "|" + travelMode + "|" + languageCode;
+    }
+
+    /**
+     * 캐시된 응답 본문 조회 (없거나 만료되면 null)
+     */
+    public synchronized String get(String key) {
+        CachedBody cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt < System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return cached.body;
+    }
+
+    public synchronized void put(String key, String body) {
+        entries.put(key, new CachedBody(body, System.currentTimeMillis() + ttlSeconds * 1000));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class CachedBody {
+        private final String body;
+        private final long expiresAt;
+
+        private CachedBody(String body, long expiresAt) {
+            this.body = body;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
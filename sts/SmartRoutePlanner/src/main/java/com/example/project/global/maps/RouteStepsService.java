@@ -0,0 +1,117 @@
+package com.example.project.global.maps;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * RouteStepsService
+ * ---------------------------------------
+ * 두 지점 사이의 경로(구간 step, polyline)를
+ * Google Routes API(directions/v2:computeRoutes)로 조회한다.
+ *
+ * 캐시:
+ *  - 저장된 두 장소 사이의 구간은 변하지 않으므로
+ *    RouteStepsCache에 응답 본문을 그대로 보관하고 재사용한다.
+ *  - 일정 상세 지도를 다시 열면 Google 호출 없이 로컬에서 응답한다.
+ *
+ * 옵션:
+ *  - travelMode 는 Google 이 지원하는 값만, languageCode 는 maps.language-codes 에 있는 값만 허용
+ *    (임의의 값마다 캐시 키가 달라져 매번 Google 을 호출하게 되는 것을 막음)
+ */
+@Service
+@RequiredArgsConstructor
+public class RouteStepsService {
+
+    private static final String ROUTES_URL = "https://routes.googleapis.com/directions/v2:computeRoutes";
+
+    private static final Set<String> TRAVEL_MODES = Set.of("DRIVE", "BICYCLE", "WALK", "TWO_WHEELER", "TRANSIT");
+
+    private static final String FIELD_MASK =
+            "routes.distanceMeters,routes.duration,routes.legs.steps.polyline.encodedPolyline,routes.legs.steps.navigationInstruction.instructions";
+
+    @Value("${google.maps.apiKey}")
+    private String googleApiKey;
+
+    @Value("${maps.language-codes:ko-KR,en-US,ja-JP,zh-CN}")
+    private Set<String> languageCodes;
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    private final RouteStepsCache routeStepsCache;
+
+    /**
+     * 구간 경로 조회 (캐시 우선)
+     * 성공(2xx) 응답만 캐시에 저장한다.
+     */
+    public ResponseEntity<String> computeRoute(double originLat, double originLng,
+                                               double destLat, double destLng,
+                                               String travelMode, String languageCode) {
+
+        checkOptions(travelMode, languageCode);
+
+        String key = routeStepsCache.key(originLat, originLng, destLat, destLng, travelMode, languageCode);
+
+        String cached = routeStepsCache.get(key);
+        if (cached != null) {
+            return ResponseEntity.ok(cached);
+        }
+
+        ResponseEntity<String> resp = fetchFromGoogle(originLat, originLng, destLat, destLng, travelMode, languageCode);
+
+        if (resp.getStatusCode().is2xxSuccessful() && resp.getBody() != null) {
+            routeStepsCache.put(key, resp.getBody());
+        }
+
+        return ResponseEntity.status(resp.getStatusCode()).body(resp.getBody());
+    }
+
+    /**
+     * 허용된 travelMode / languageCode 인지 확인
+     */
+    public void checkOptions(String travelMode, String languageCode) {
+        if (!TRAVEL_MODES.contains(travelMode)) {
+            throw new IllegalArgumentException("지원하지 않는 travelMode 입니다. travelMode=" + travelMode);
+        }
+        if (!languageCodes.contains(languageCode)) {
+            throw new IllegalArgumentException("지원하지 않는 languageCode 입니다. languageCode=" + languageCode);
+        }
+    }
+
+    private ResponseEntity<String> fetchFromGoogle(double originLat, double originLng,
+                                                   double destLat, double destLng,
+                                                   String travelMode, String languageCode) {
+
+        Map<String, Object> reqBody = Map.of(
+            "origin", Map.of("location", Map.of("latLng", Map.of(
+                "latitude", originLat,
+                "longitude", originLng
+            ))),
+            "destination", Map.of("location", Map.of("latLng", Map.of(
+                "latitude", destLat,
+                "longitude", destLng
+            ))),
+            "travelMode", travelMode,
+            "languageCode", languageCode
+        );
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Goog-Api-Key", googleApiKey);
+        headers.set("X-Goog-FieldMask", FIELD_MASK);
+
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(reqBody, headers);
+
+        return restTemplate.exchange(ROUTES_URL, HttpMethod.POST, entity, String.class);
+    }
+}
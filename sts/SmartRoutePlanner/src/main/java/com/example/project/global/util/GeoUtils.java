@@ -0,0 +1,33 @@
+package com.example.project.global.util;
+
+/**
+ * GeoUtils
+ * ---------------------------------------
+ * 위경도 좌표 계산 유틸.
+ */
+public final class GeoUtils {
+
+    private static final double EARTH_RADIUS_METERS = 6371000;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * 두 좌표 간 거리를 계산하는 Haversine 공식 (단위: 미터)
+     */
+    public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+
+        double a =
+                Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                        + Math.cos(Math.toRadians(lat1))
+                        * Math.cos(Math.toRadians(lat2))
+                        * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return EARTH_RADIUS_METERS * c;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.project.global.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * RoaringIdSet
+ * ---------------------------------------
+ * 양수 long id 집합 (roaring bitmap 방식의 압축 표현, 메모리).
+ *
+ * 구조:
+ *  - id 의 상위 비트(id >>> 16) 별로 컨테이너 하나, 컨테이너에는 하위 16비트만 보관
+ *  - 원소가 적은 컨테이너는 정렬된 char 배열 (원소당 2바이트, 이진 탐색)
+ *  - ARRAY_LIMIT 개를 넘으면 65536비트 비트맵 (long[1024], 8KB 고정) 으로 바꿈
+ *  - 비트맵 원소가 ARRAY_LIMIT 의 절반 이하로 줄면 다시 배열로 바꿈 (경계에서 반복 변환 방지)
+ *
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 잠금.
+ */
+public final class RoaringIdSet {
+
+    private static final int ARRAY_LIMIT = 4096;
+
+    private final Map<Long, Container> containers = new HashMap<>();
+    private int size;
+
+    public boolean add(long id) {
+        Container c = containers.get(id >>> 16);
+        if (c == null) {
+            c = new Container();
+            containers.put(id >>> 16, c);
+        }
+        if (c.add((char) id)) {
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean remove(long id) {
+        Container c = containers.get(id >>> 16);
+        if (c == null || !c.remove((char) id)) {
+            return false;
+        }
+        if (c.cardinality == 0) {
+            containers.remove(id >>> 16);
+        }
+        size--;
+        return true;
+    }
+
+    public boolean contains(long id) {
+        Container c = containers.get(id >>> 16);
+        return c != null && c.contains((char) id);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** 하위 16비트 컨테이너 (배열 또는 비트맵) */
+    private static final class Container {
+
+        private char[] values = new char[4];   // 배열 모드 (bitmap == null 일 때)
+        private long[] bitmap;                 // 비트맵 모드
+        private int cardinality;
+
+        boolean contains(char low) {
+            if (bitmap != null) {
+                return (bitmap[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        boolean add(char low) {
+            if (bitmap != null) {
+                long before = bitmap[low >>> 6];
+                bitmap[low >>> 6] = before | (1L << low);
+                if (before == bitmap[low >>> 6]) {
+                    return false;
+                }
+                cardinality++;
+                return true;
+            }
+
+            int pos = Arrays.binarySearch(values, 0, cardinality, low);
+            if (pos >= 0) {
+                return false;
+            }
+            if (cardinality == ARRAY_LIMIT) {
+                toBitmap();
+                return add(low);
+            }
+
+            pos = -pos - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_LIMIT));
+            }
+            System.arraycopy(values, pos, values, pos + 1, cardinality - pos);
+            values[pos] = low;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(char low) {
+            if (bitmap != null) {
+                long before = bitmap[low >>> 6];
+                bitmap[low >>> 6] = before & ~(1L << low);
+                if (before == bitmap[low >>> 6]) {
+                    return false;
+                }
+                cardinality--;
+                if (cardinality <= ARRAY_LIMIT / 2) {
+                    toArray();
+                }
+                return true;
+            }
+
+            int pos = Arrays.binarySearch(values, 0, cardinality, low);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(values, pos + 1, values, pos, cardinality - pos - 1);
+            cardinality--;
+            return true;
+        }
+
+        private void toBitmap() {
+            bitmap = new long[1024];
+            for (int i = 0; i < cardinality; i++) {
+                bitmap[values[i] >>> 6] |= 1L << values[i];
+            }
+            values = null;
+        }
+
+        private void toArray() {
+            values = new char[Math.max(cardinality, 4)];
+            int n = 0;
+            for (int word = 0; word < bitmap.length; word++) {
+                long bits = bitmap[word];
+                while (bits != 0) {
+                    values[n++] = (char) ((word << 6) + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+            bitmap = null;
+        }
+    }
+}
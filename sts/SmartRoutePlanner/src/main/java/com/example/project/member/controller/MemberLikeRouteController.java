@@ -3,6 +3,7 @@ package com.example.project.member.controller;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.example.project.member.dto.LikedRouteIdsRequest;
 import com.example.project.member.service.MemberLikeRouteService;
 
 import lombok.RequiredArgsConstructor;
@@ -29,13 +30,25 @@ public class MemberLikeRouteController {
             @PathVariable Integer userId,
             @PathVariable Long routeId
     ) {
-        likeService.unlike(userId, routeId);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(likeService.unlike(userId, routeId));
     }
 
-    // 좋아요 목록 조회
+    // 좋아요 여부 일괄 확인 (목록 화면 하트 표시용)
+    @PostMapping("/likes/check")
+    public ResponseEntity<?> checkLiked(
+            @PathVariable Integer userId,
+            @RequestBody LikedRouteIdsRequest request
+    ) {
+        return ResponseEntity.ok(likeService.filterLiked(userId, request.getRouteIds()));
+    }
+
+    // 좋아요 목록 조회 (beforeId: 이전 페이지 마지막 likeId, size: 최대 100)
     @GetMapping("/likes")
-    public ResponseEntity<?> getLikedRoutes(@PathVariable Integer userId) {
-        return ResponseEntity.ok(likeService.getLikedRoutes(userId));
+    public ResponseEntity<?> getLikedRoutes(
+            @PathVariable Integer userId,
+            @RequestParam(value = "beforeId", required = false) Long beforeId,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(likeService.getLikedRoutes(userId, beforeId, Math.min(Math.max(size, 1), 100)));
     }
 }
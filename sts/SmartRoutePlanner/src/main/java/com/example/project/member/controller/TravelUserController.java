@@ -6,12 +6,12 @@ import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import com.example.project.member.domain.MemberLikeRoute;
 import com.example.project.member.domain.TravelUser;
+import com.example.project.member.dto.LikeRouteResponse;
 import com.example.project.member.dto.UpdateProfileRequest;
 import com.example.project.member.dto.UserInfoResponse;
 import com.example.project.member.service.TravelUserService;
-import com.example.project.route.domain.Route;
+import com.example.project.route.dto.RouteListItemDto;
 import com.example.project.security.user.ChangePasswordRequest;
 
 import lombok.RequiredArgsConstructor;
@@ -76,15 +76,24 @@ public class TravelUserController {
     // 6) 좋아요한 루트 목록
     // =========================
     @GetMapping("/likes")
-    public ResponseEntity<List<MemberLikeRoute>> getMyLikedRoutes(Principal principal) {
-        return ResponseEntity.ok(service.getMyLikedRoutes(principal));
+    public ResponseEntity<List<LikeRouteResponse>> getMyLikedRoutes(
+            Principal principal,
+            @RequestParam(value = "beforeId", required = false) Long beforeId,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(service.getMyLikedRoutes(principal, beforeId, Math.min(Math.max(size, 1), 100)));
     }
 
     // =========================
     // 7) 내가 만든 루트 목록
     // =========================
+    // afterId: 이전 페이지 마지막 routeId (keyset 페이지), size: 최대 100
     @GetMapping("/routes")
-    public ResponseEntity<List<Route>> getMyCreatedRoutes(Principal principal) {
-        return ResponseEntity.ok(service.getMyCreatedRoutes(principal));
+    public ResponseEntity<List<RouteListItemDto>> getMyCreatedRoutes(
+            Principal principal,
+            @RequestParam(value = "afterId", required = false) Long afterId,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(service.getMyCreatedRoutes(principal, afterId, Math.min(Math.max(size, 1), 100)));
     }
 }
@@ -11,7 +11,8 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "MEMBER_LIKE_ROUTE")
+@Table(name = "MEMBER_LIKE_ROUTE",
+        uniqueConstraints = @UniqueConstraint(name = "UK_LIKE_MEMBER_ROUTE", columnNames = { "memberid", "rt_id" }))
 public class MemberLikeRoute {
 
     @Id
@@ -21,11 +22,11 @@ public class MemberLikeRoute {
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "memberid", nullable = false)
+    @JoinColumn(name = "memberid", nullable = false, foreignKey = @ForeignKey(name = "FK_LIKE_MEMBER"))
     private TravelUser user;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "rt_id", nullable = false)
+    @JoinColumn(name = "rt_id", nullable = false, foreignKey = @ForeignKey(name = "FK_LIKE_ROUTE"))
     private Route route;
 
     @Builder.Default
@@ -14,5 +14,6 @@ public class LikeRouteResponse {
     private Long likeId;          // 좋아요 ID
     private Long routeId;         // 루트 ID
     private String routeName;     // 루트 이름
+    private String photoUrl;      // 첫 번째 장소의 사진 참조값 (없으면 null)
     private LocalDate likeDate;   // 좋아요 누른 날짜
 }
@@ -0,0 +1,20 @@
+package com.example.project.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 좋아요 / 좋아요 취소 결과
+ *  - liked: 요청 후 좋아요 상태
+ *  - changed: 이번 요청으로 상태가 바뀌었는지 (이미 같은 상태였으면 false)
+ *  - likeCount: 일정의 현재 좋아요 수
+ */
+@Getter
+@AllArgsConstructor
+public class LikeStatusResponse {
+
+    private Long routeId;
+    private boolean liked;
+    private boolean changed;
+    private long likeCount;
+}
@@ -0,0 +1,18 @@
+package com.example.project.member.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 좋아요 여부를 확인할 일정 id 목록
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class LikedRouteIdsRequest {
+
+    private List<Long> routeIds;
+}
@@ -0,0 +1,16 @@
+package com.example.project.member.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요청한 일정 중 좋아요 한 일정 id (요청 순서)
+ */
+@Getter
+@AllArgsConstructor
+public class LikedRouteIdsResponse {
+
+    private List<Long> likedRouteIds;
+}
@@ -0,0 +1,15 @@
+package com.example.project.member.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 일정별·날짜별 좋아요 수 프로젝션 (인기 일정 점수 초기 계산용)
+ */
+public interface RouteLikeDailyCount {
+
+    Long getRouteId();
+
+    LocalDate getLikeDate();
+
+    long getLikeCount();
+}
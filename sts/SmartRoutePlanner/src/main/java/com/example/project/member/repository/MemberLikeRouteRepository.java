@@ -1,12 +1,18 @@
 package com.example.project.member.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.project.member.domain.MemberLikeRoute;
 import com.example.project.member.domain.TravelUser;
+import com.example.project.member.dto.LikeRouteResponse;
+import com.example.project.member.dto.RouteLikeDailyCount;
 
 @Repository
 public interface MemberLikeRouteRepository extends JpaRepository<MemberLikeRoute, Long> {
@@ -16,4 +22,42 @@ public interface MemberLikeRouteRepository extends JpaRepository<MemberLikeRoute
     boolean existsByUserIdAndRouteId(Integer userId, Long routeId);
 
     void deleteByUserIdAndRouteId(Integer userId, Long routeId);
+
+    // 회원이 좋아요 한 일정 id (좋아요 여부 캐시 적재용)
+    @Query("SELECT l.route.id FROM MemberLikeRoute l WHERE l.user.id = :userId")
+    List<Long> findRouteIdsByUserId(@Param("userId") Integer userId);
+
+    /**
+     * 회원의 좋아요 목록 (목록 화면용 컬럼만, 쿼리 1번)
+     *
+     *  - 일정 제목: Route 조인 (일정 엔티티를 따로 읽지 않음)
+     *  - 대표 사진: 일정 첫 번째 장소(dayIndex, orderIndex 가 가장 앞선 RoutePlace)의 0번 사진 참조값
+     *  - 페이지: like id 기준 keyset, 최근 좋아요 먼저 (beforeId 보다 작은 id 부터 pageable.size 개)
+     */
+    @Query("""
+        SELECT new com.example.project.member.dto.LikeRouteResponse(
+                   l.id, r.id, r.title,
+                   (SELECT ph FROM Place p JOIN p.photoReferences ph WHERE p.id = rp.place.id AND INDEX(ph) = 0),
+                   l.likeDate)
+        FROM MemberLikeRoute l
+        JOIN l.route r
+        LEFT JOIN RoutePlace rp ON rp.route = r
+        WHERE l.user.id = :userId
+          AND l.id < :beforeId
+          AND (rp.id IS NULL OR NOT EXISTS (
+                SELECT 1 FROM RoutePlace rp2
+                WHERE rp2.route = r
+                  AND (rp2.dayIndex < rp.dayIndex
+                       OR (rp2.dayIndex = rp.dayIndex AND rp2.orderIndex < rp.orderIndex)
+                       OR (rp2.dayIndex = rp.dayIndex AND rp2.orderIndex = rp.orderIndex AND rp2.id < rp.id))))
+        ORDER BY l.id DESC
+    """)
+    List<LikeRouteResponse> findListItemsByUserId(@Param("userId") Integer userId,
+                                                  @Param("beforeId") Long beforeId,
+                                                  Pageable pageable);
+
+    // 일정별·날짜별 좋아요 수 (since 이후, 인기 일정 점수 초기 계산용)
+    @Query("SELECT l.route.id AS routeId, l.likeDate AS likeDate, COUNT(l) AS likeCount "
+            + "FROM MemberLikeRoute l WHERE l.likeDate >= :since GROUP BY l.route.id, l.likeDate")
+    List<RouteLikeDailyCount> countDailyLikesSince(@Param("since") LocalDate since);
 }
@@ -3,9 +3,12 @@ package com.example.project.member.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.project.member.domain.TravelUser;
+import com.example.project.member.dto.UserInfoResponse;
 
 @Repository
 public interface TravelUserRepository extends JpaRepository<TravelUser, Integer>{
@@ -14,4 +17,13 @@ public interface TravelUserRepository extends JpaRepository<TravelUser, Integer>
 
 	public Optional<TravelUser> findById(Long memberId);
 
+	// 회원 id 만 조회 (인증 정보에 회원 엔티티가 없을 때)
+	@Query("SELECT u.id FROM TravelUser u WHERE u.email = :email")
+	public Optional<Integer> findIdByEmail(@Param("email") String email);
+
+	// 내 정보 화면용 컬럼만 조회
+	@Query("SELECT new com.example.project.member.dto.UserInfoResponse(u.id, u.nickname, u.email, u.age, u.gender, u.role) "
+			+ "FROM TravelUser u WHERE u.email = :email")
+	public Optional<UserInfoResponse> findInfoByEmail(@Param("email") String email);
+
 }
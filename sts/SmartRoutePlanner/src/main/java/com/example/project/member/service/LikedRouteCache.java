@@ -0,0 +1,144 @@
+package com.example.project.member.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.project.global.util.RoaringIdSet;
+import com.example.project.member.repository.MemberLikeRouteRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * LikedRouteCache
+ * ---------------------------------------
+ * 회원별 "좋아요 한 일정 id" 집합 캐시 (RoaringIdSet, 메모리).
+ *
+ * 동작:
+ *  - 처음 조회할 때 회원의 좋아요 일정 id 만 한 번 읽어 적재 (findRouteIdsByUserId)
+ *  - 이후 좋아요/취소는 MemberLikeRouteService 가 onLike / onUnlike 로 반영 → 조회는 DB 를 거치지 않음
+ *  - 적재 쿼리는 잠금 없이 실행하고, 결과를 넣을 때만 잠금 (쿼리가 느려도 같은 잠금의 다른 회원을 막지 않음)
+ *  - 좋아요/취소 반영 때마다 잠금 단위 버전을 올림
+ *    → 쿼리 전후로 버전이 바뀌었으면 쿼리가 그 변경을 놓쳤을 수 있으므로 결과를 버리고 다시 적재
+ *    → MAX_LOAD_ATTEMPTS 번 모두 바뀌면 이번 조회에만 쓰고 캐시에 넣지 않음
+ *  - 최대 max-users 명, 넘으면 가장 오래 쓰지 않은 회원부터 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class LikedRouteCache {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private static final Object[] LOCKS = new Object[64];
+
+    /** 잠금 단위 버전 (좋아요/취소 반영마다 증가) */
+    private static final AtomicLongArray VERSIONS = new AtomicLongArray(LOCKS.length);
+
+    static {
+        for (int i = 0; i < LOCKS.length; i++) {
+            LOCKS[i] = new Object();
+        }
+    }
+
+    private final MemberLikeRouteRepository likeRepo;
+
+    @Value("${member.liked-cache.max-users:10000}")
+    private int maxUsers;
+
+    private final Map<Integer, RoaringIdSet> users = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, RoaringIdSet> eldest) {
+            return size() > maxUsers;
+        }
+    };
+
+    /**
+     * routeIds 중 userId 가 좋아요 한 일정 (요청 순서 유지)
+     */
+    public List<Long> filterLiked(Integer userId, List<Long> routeIds) {
+
+        RoaringIdSet liked = get(userId);
+        if (liked == null) {
+            liked = load(userId);
+        }
+
+        synchronized (lock(userId)) {
+            List<Long> result = new ArrayList<>();
+            for (Long routeId : routeIds) {
+                if (routeId != null && liked.contains(routeId)) {
+                    result.add(routeId);
+                }
+            }
+            return result;
+        }
+    }
+
+    /** 좋아요 반영 (적재되지 않은 회원은 다음 조회 때 DB 에서 읽으므로 무시) */
+    public void onLike(Integer userId, Long routeId) {
+        synchronized (lock(userId)) {
+            VERSIONS.incrementAndGet(stripe(userId));
+            RoaringIdSet liked = get(userId);
+            if (liked != null) {
+                liked.add(routeId);
+            }
+        }
+    }
+
+    /** 좋아요 취소 반영 */
+    public void onUnlike(Integer userId, Long routeId) {
+        synchronized (lock(userId)) {
+            VERSIONS.incrementAndGet(stripe(userId));
+            RoaringIdSet liked = get(userId);
+            if (liked != null) {
+                liked.remove(routeId);
+            }
+        }
+    }
+
+    /** DB 에서 적재 (쿼리는 잠금 밖, 넣기는 잠금 안) */
+    private RoaringIdSet load(Integer userId) {
+
+        RoaringIdSet liked = null;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long version = VERSIONS.get(stripe(userId));
+
+            liked = new RoaringIdSet();
+            for (Long routeId : likeRepo.findRouteIdsByUserId(userId)) {
+                liked.add(routeId);
+            }
+
+            synchronized (lock(userId)) {
+                RoaringIdSet loaded = get(userId);
+                if (loaded != null) {
+                    return loaded;   // 다른 요청이 먼저 적재
+                }
+                if (VERSIONS.get(stripe(userId)) == version) {
+                    synchronized (users) {
+                        users.put(userId, liked);
+                    }
+                    return liked;
+                }
+            }
+        }
+        return liked;
+    }
+
+    private RoaringIdSet get(Integer userId) {
+        synchronized (users) {
+            return users.get(userId);
+        }
+    }
+
+    private static Object lock(Integer userId) {
+        return LOCKS[stripe(userId)];
+    }
+
+    private static int stripe(Integer userId) {
+        return userId & (LOCKS.length - 1);
+    }
+}
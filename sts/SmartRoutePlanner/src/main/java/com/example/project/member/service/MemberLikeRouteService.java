@@ -1,95 +1,157 @@
 package com.example.project.member.service;
 
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.Types;
 import java.util.List;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
-import com.example.project.global.exception.AlreadyLikedException;
-import com.example.project.global.exception.LikeNotFoundException;
 import com.example.project.global.exception.RouteNotFoundException;
 import com.example.project.global.exception.UserNotFoundException;
-import com.example.project.member.domain.MemberLikeRoute;
-import com.example.project.member.domain.TravelUser;
 import com.example.project.member.dto.LikeRouteResponse;
+import com.example.project.member.dto.LikeStatusResponse;
+import com.example.project.member.dto.LikedRouteIdsResponse;
 import com.example.project.member.repository.MemberLikeRouteRepository;
-import com.example.project.member.repository.TravelUserRepository;
-import com.example.project.route.domain.Route;
-import com.example.project.route.repository.RouteRepository;
+import com.example.project.route.service.RouteLikeCounter;
+import com.example.project.route.service.TrendingRouteService;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 좋아요 추가/취소는 회원·일정 엔티티를 읽지 않고 id 만으로 한 문장씩 실행한다.
+ *  - 추가: MERGE (없을 때만 INSERT), 동시 요청은 (memberid, rt_id) 유니크 제약으로 한 건만 남음
+ *  - 취소: DELETE ... RETURNING like_date (인기 점수 차감에 좋아요 날짜가 필요)
+ *  - 둘 다 이미 같은 상태면 changed = false 로 성공 (재시도해도 안전)
+ */
 @Service
 @RequiredArgsConstructor
 public class MemberLikeRouteService {
 
-    private final MemberLikeRouteRepository likeRepo;
-    private final TravelUserRepository userRepo;
-    private final RouteRepository routeRepo;
+    /** MERGE 는 RETURNING 이 없어, 넣을 날짜를 먼저 정해 INSERT 한 경우에만 OUT 으로 돌려줌 */
+    private static final String LIKE_MERGE_SQL =
+            "DECLARE d DATE := TRUNC(SYSDATE); BEGIN "
+            + "MERGE INTO member_like_route l "
+            + "USING (SELECT ? AS memberid, ? AS rt_id FROM dual) s "
+            + "ON (l.memberid = s.memberid AND l.rt_id = s.rt_id) "
+            + "WHEN NOT MATCHED THEN INSERT (like_id, memberid, rt_id, like_date) "
+            + "VALUES (SEQ_LIKE_ID.NEXTVAL, s.memberid, s.rt_id, d); "
+            + "IF SQL%ROWCOUNT > 0 THEN ? := d; END IF; END;";
 
-    // ============================================================
-    // 좋아요 추가
-    // ============================================================
-    public MemberLikeRoute like(Integer userId, Long routeId) {
+    private static final String UNLIKE_SQL =
+            "BEGIN DELETE FROM member_like_route WHERE memberid = ? AND rt_id = ? "
+            + "RETURNING like_date INTO ?; END;";
 
-        TravelUser user = userRepo.findById(userId)
-                .orElseThrow(UserNotFoundException::new);
+    private static final String MEMBER_FK = "FK_LIKE_MEMBER";
 
-        Route route = routeRepo.findById(routeId)
-                .orElseThrow(RouteNotFoundException::new);
+    private final MemberLikeRouteRepository likeRepo;
+    private final JdbcTemplate jdbcTemplate;
+    private final TrendingRouteService trendingService;
+    private final RouteLikeCounter likeCounter;
+    private final LikedRouteCache likedRouteCache;
 
-        // 중복 체크
-        if (likeRepo.existsByUserIdAndRouteId(userId, routeId)) {
-            throw new AlreadyLikedException();
+    // ============================================================
+    // 좋아요 추가 (MERGE 한 문장, 이미 좋아요면 아무것도 하지 않음)
+    // ============================================================
+    public LikeStatusResponse like(Integer userId, Long routeId) {
+
+        // INSERT 한 경우에만 DB 가 기록한 좋아요 날짜를 받음 (취소 시 RETURNING 날짜와 같은 기준)
+        Date likeDate;
+        try {
+            likeDate = jdbcTemplate.execute(
+                    (Connection con) -> {
+                        CallableStatement cs = con.prepareCall(LIKE_MERGE_SQL);
+                        cs.setInt(1, userId);
+                        cs.setLong(2, routeId);
+                        cs.registerOutParameter(3, Types.DATE);
+                        return cs;
+                    },
+                    (CallableStatement cs) -> {
+                        cs.execute();
+                        return cs.getDate(3);
+                    });
+        } catch (DuplicateKeyException e) {
+            // 같은 요청이 동시에 들어와 다른 쪽이 먼저 INSERT 함 (uk_like_member_route)
+            likeDate = null;
+        } catch (DataIntegrityViolationException e) {
+            // FK 위반: 어느 쪽 부모가 없는지는 제약 이름으로 구분 (FK_LIKE_MEMBER / FK_LIKE_ROUTE)
+            if (violates(e, MEMBER_FK)) {
+                throw new UserNotFoundException();
+            }
+            throw new RouteNotFoundException();
         }
 
-        MemberLikeRoute like = MemberLikeRoute.builder()
-                .user(user)
-                .route(route)
-                .build();
-
-        return likeRepo.save(like);
+        boolean inserted = likeDate != null;
+        if (inserted) {
+            // 인기 일정 점수, 좋아요 수 반영 (DB 에 기록된 날짜 기준 → 취소 시 같은 가중치로 차감)
+            trendingService.onLike(routeId, likeDate.toLocalDate());
+            likeCounter.increment(routeId);
+            likedRouteCache.onLike(userId, routeId);
+        }
+        return new LikeStatusResponse(routeId, true, inserted, likeCounter.get(routeId));
     }
 
     // ============================================================
-    // 좋아요 취소
+    // 좋아요 취소 (DELETE 한 문장, 좋아요가 없으면 아무것도 하지 않음)
     // ============================================================
-    public void unlike(Integer userId, Long routeId) {
-
-        if (!likeRepo.existsByUserIdAndRouteId(userId, routeId)) {
-            throw new LikeNotFoundException();
+    public LikeStatusResponse unlike(Integer userId, Long routeId) {
+
+        // 삭제한 행의 좋아요 날짜를 RETURNING 으로 같이 받음 (인기 점수 차감용, 별도 조회 없음)
+        Date likeDate = jdbcTemplate.execute(
+                (Connection con) -> {
+                    CallableStatement cs = con.prepareCall(UNLIKE_SQL);
+                    cs.setInt(1, userId);
+                    cs.setLong(2, routeId);
+                    cs.registerOutParameter(3, Types.DATE);
+                    return cs;
+                },
+                (CallableStatement cs) -> {
+                    cs.execute();
+                    return cs.getDate(3);
+                });
+
+        if (likeDate != null) {
+            // 좋아요 했던 날짜 기준으로 점수 차감
+            trendingService.onUnlike(routeId, likeDate.toLocalDate());
+            likeCounter.decrement(routeId);
+            likedRouteCache.onUnlike(userId, routeId);
         }
-
-        likeRepo.deleteByUserIdAndRouteId(userId, routeId);
+        return new LikeStatusResponse(routeId, false, likeDate != null, likeCounter.get(routeId));
     }
 
     // ============================================================
-    // 좋아요 목록 (엔티티 그대로)
+    // 좋아요 여부 일괄 확인 (캐시 적재 후에는 DB 조회 없음)
     // ============================================================
-    public List<MemberLikeRoute> getLikedRoutes(Integer userId) {
-
-        TravelUser user = userRepo.findById(userId)
-                .orElseThrow(UserNotFoundException::new);
-
-        return likeRepo.findByUser(user);
+    public LikedRouteIdsResponse filterLiked(Integer userId, List<Long> routeIds) {
+        if (routeIds == null || routeIds.isEmpty()) {
+            return new LikedRouteIdsResponse(List.of());
+        }
+        return new LikedRouteIdsResponse(likedRouteCache.filterLiked(userId, routeIds));
     }
 
     // ============================================================
-    // 좋아요 목록 (DTO 변환 버전)
+    // 좋아요 목록 (제목·대표 사진 포함, 쿼리 1번, 최근 좋아요 먼저)
     // ============================================================
-    public List<LikeRouteResponse> getLikedRoutesDto(Integer userId) {
-
-        TravelUser user = userRepo.findById(userId)
-                .orElseThrow(UserNotFoundException::new);
-
-        List<MemberLikeRoute> likes = likeRepo.findByUser(user);
+    /**
+     * @param beforeId 이전 페이지의 마지막 likeId (null 이면 처음부터)
+     * @param size     페이지 크기
+     */
+    public List<LikeRouteResponse> getLikedRoutes(Integer userId, Long beforeId, int size) {
+
+        return likeRepo.findListItemsByUserId(
+                userId,
+                beforeId != null ? beforeId : Long.MAX_VALUE,
+                PageRequest.of(0, size));
+    }
 
-        return likes.stream()
-                .map(like -> LikeRouteResponse.builder()
-                        .likeId(like.getId())
-                        .routeId(like.getRoute().getId())
-                        .routeName(like.getRoute().getTitle())   // Route 엔티티의 제목
-                        .likeDate(like.getLikeDate())
-                        .build()
-                ).toList();
+    /** 예외 메시지(드라이버가 위반한 제약 이름을 포함)에 constraint 가 있는지 */
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toUpperCase().contains(constraint);
     }
 }
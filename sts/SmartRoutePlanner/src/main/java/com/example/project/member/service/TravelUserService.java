@@ -4,17 +4,18 @@ import java.security.Principal;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import com.example.project.member.domain.MemberLikeRoute;
 import com.example.project.member.domain.TravelUser;
+import com.example.project.member.dto.LikeRouteResponse;
 import com.example.project.member.dto.UpdateProfileRequest;
 import com.example.project.member.dto.UserInfoResponse;
-import com.example.project.member.repository.MemberLikeRouteRepository;
 import com.example.project.member.repository.TravelUserRepository;
-import com.example.project.route.domain.Route;
+import com.example.project.route.dto.RouteListItemDto;
+import com.example.project.route.repository.RouteRepository;
 import com.example.project.security.user.ChangePasswordRequest;
 
 import lombok.RequiredArgsConstructor;
@@ -25,14 +26,20 @@ public class TravelUserService {
 
     private final PasswordEncoder passwordEncoder;
     private final TravelUserRepository repository;
-    private final MemberLikeRouteRepository likeRepository;
+    private final MemberLikeRouteService likeRouteService;
+    private final RouteRepository routeRepository;
 
     // ================================
     // ❗ 1) 내 정보 조회
     // ================================
     public UserInfoResponse getMyInfo(Principal principal) {
-        TravelUser user = repository.findByEmail(principal.getName())
-                .orElseThrow(() -> new RuntimeException("유저 정보를 찾을 수 없습니다."));
+
+        // JWT 필터가 이번 요청에서 읽어 둔 회원 → 추가 조회 없음
+        TravelUser user = authenticatedUser(principal);
+        if (user == null) {
+            return repository.findInfoByEmail(principal.getName())
+                    .orElseThrow(() -> new RuntimeException("유저 정보를 찾을 수 없습니다."));
+        }
 
         return new UserInfoResponse(
                 user.getId(),
@@ -86,22 +93,41 @@ public class TravelUserService {
     // ================================
     // ❗ 5) 좋아요한 루트 목록 조회
     // ================================
-    public List<MemberLikeRoute> getMyLikedRoutes(Principal principal) {
-        TravelUser user = repository.findByEmail(principal.getName())
-                .orElseThrow(() -> new RuntimeException("유저 정보를 찾을 수 없습니다."));
+    public List<LikeRouteResponse> getMyLikedRoutes(Principal principal, Long beforeId, int size) {
+        return likeRouteService.getLikedRoutes(currentUserId(principal), beforeId, size);
+    }
 
-        return likeRepository.findByUser(user);
+    // ================================
+    // ❗ 6) 내가 만든 루트 목록 조회 (목록 화면용 컬럼만, 쿼리 1번)
+    // ================================
+    public List<RouteListItemDto> getMyCreatedRoutes(Principal principal, Long afterId, int size) {
+        return routeRepository.findListItemsByMember(
+                currentUserId(principal),
+                afterId != null ? afterId : 0L,
+                PageRequest.of(0, size));
     }
 
     // ================================
-    // ❗ 6) 내가 만든 루트 목록 조회
+    // 인증된 회원
     // ================================
-    public List<Route> getMyCreatedRoutes(Principal principal) {
 
-        TravelUser user = repository.findByEmail(principal.getName())
-                .orElseThrow(() -> new RuntimeException("유저 정보를 찾을 수 없습니다."));
+    /** JWT 필터가 넣어 둔 회원 엔티티 (다른 방식의 인증이면 null) */
+    private static TravelUser authenticatedUser(Principal principal) {
+        if (principal instanceof UsernamePasswordAuthenticationToken token
+                && token.getPrincipal() instanceof TravelUser user) {
+            return user;
+        }
+        return null;
+    }
 
-        return user.getRoutes();
+    /** 현재 회원 id (인증 정보에 있으면 조회하지 않음) */
+    private Integer currentUserId(Principal principal) {
+        TravelUser user = authenticatedUser(principal);
+        if (user != null) {
+            return user.getId();
+        }
+        return repository.findIdByEmail(principal.getName())
+                .orElseThrow(() -> new RuntimeException("유저 정보를 찾을 수 없습니다."));
     }
 
     // ================================
@@ -33,8 +33,10 @@ public class Place {
 
     // [수정 포인트 1] @Lob 제거 + length 추가
     // Google Photo Reference는 길기 때문에 2000자 정도로 넉넉하게 잡습니다.
+    // 순서 유지 (목록 화면의 대표 사진 = 0번 사진)
     @ElementCollection
     @CollectionTable(name = "place_photo", joinColumns = @JoinColumn(name = "place_id"))
+    @OrderColumn(name = "photo_order")
     @Column(name = "photo_reference", length = 2000) 
     private List<String> photoReferences;
 
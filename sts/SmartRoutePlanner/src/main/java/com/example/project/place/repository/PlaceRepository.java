@@ -13,6 +13,7 @@
 
 package com.example.project.place.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +41,12 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
      */
     Optional<Place> findOptionalByGooglePlaceId(String googlePlaceId);
 
+    /**
+     * 여러 googlePlaceId 를 IN 조회 한 번으로 가져온다.
+     * 일정 저장 시 장소마다 조회하지 않기 위해 사용
+     */
+    List<Place> findByGooglePlaceIdIn(Collection<String> googlePlaceIds);
+
     
     /**
      * 키워드 검색
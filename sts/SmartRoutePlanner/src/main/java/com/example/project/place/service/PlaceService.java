@@ -38,6 +38,7 @@
 package com.example.project.place.service;
 
 import com.example.project.global.exception.PlaceApiException;
+import com.example.project.global.util.GeoUtils;
 import com.example.project.place.domain.Place;
 import com.example.project.place.dto.PlaceRequestDto;
 import com.example.project.place.repository.PlaceRepository;
@@ -45,8 +46,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -157,37 +162,15 @@ public class PlaceService {
                 })
                 .filter(place -> {
                     double distance =
-                            calculateDistanceMeters(lat, lng, place.getLat(), place.getLng());
+                            GeoUtils.haversineMeters(lat, lng, place.getLat(), place.getLng());
                     return distance <= radiusMeters;
                 })
                 .sorted(Comparator.comparingDouble(
-                        place -> calculateDistanceMeters(lat, lng, place.getLat(), place.getLng()))
+                        place -> GeoUtils.haversineMeters(lat, lng, place.getLat(), place.getLng()))
                 )
                 .collect(Collectors.toList());
     }
 
-    /**
-     * 두 좌표 간 거리를 계산하는 Haversine 공식 (단위: 미터)
-     */
-    private double calculateDistanceMeters(
-            double lat1, double lng1, double lat2, double lng2) {
-
-        final int EARTH_RADIUS = 6371000;
-
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLng = Math.toRadians(lng2 - lng1);
-
-        double a =
-                Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                        + Math.cos(Math.toRadians(lat1))
-                        * Math.cos(Math.toRadians(lat2))
-                        * Math.sin(dLng / 2) * Math.sin(dLng / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return EARTH_RADIUS * c;
-    }
-
     /**
      * Google Places API를 호출하여 placeId로 Place 저장
      * 저장 시 savePlace(dto)를 재사용해 중복 체크 처리
@@ -219,6 +202,33 @@ public class PlaceService {
                 });
     }
 
+    /**
+     * 여러 placeId를 한 번에 Place로 변환
+     * DB에 이미 있는 장소는 IN 조회 한 번으로 가져오고,
+     * 없는 장소만 savePlaceFromGoogle로 Google API 호출 후 저장한다.
+     *
+     * 사용처:
+     *   - 일정 생성/수정 시 장소마다 개별 조회하지 않기 위해 사용
+     */
+    public Map<String, Place> savePlacesFromGoogle(Collection<String> placeIds) {
+
+        Map<String, Place> result = new HashMap<>();
+        if (placeIds == null || placeIds.isEmpty()) {
+            return result;
+        }
+
+        for (Place place : placeRepository.findByGooglePlaceIdIn(new HashSet<>(placeIds))) {
+            result.putIfAbsent(place.getGooglePlaceId(), place);
+        }
+
+        for (String placeId : placeIds) {
+            if (!result.containsKey(placeId)) {
+                result.put(placeId, savePlaceFromGoogle(placeId));
+            }
+        }
+        return result;
+    }
+
     /**
      * 타입 기반 인기 장소 조회
      * rating과 userRatingsTotal(리뷰 수) 기준 상위 limit개 조회
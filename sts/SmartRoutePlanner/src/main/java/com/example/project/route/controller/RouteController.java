@@ -1,14 +1,48 @@
 package com.example.project.route.controller;
 
+import com.example.project.global.idempotency.IdempotencyStore;
+import com.example.project.global.maps.RouteLegResultDto;
+import com.example.project.global.maps.RouteStepsBatchService;
 import com.example.project.route.dto.RouteCreateRequestDto;
-import com.example.project.route.dto.RouteDetailResponseDto;
+import com.example.project.route.dto.RouteGenerateJobDto;
+import com.example.project.route.dto.RouteGenerateMetricsDto;
+import com.example.project.route.dto.RouteGenerateRequestDto;
 import com.example.project.route.dto.RouteListItemDto;
+import com.example.project.route.dto.RoutePatchRequestDto;
+import com.example.project.route.dto.RouteRevisionDto;
+import com.example.project.route.dto.RouteVersionResponseDto;
+import com.example.project.route.service.RouteBundleService;
+import com.example.project.route.service.RouteDetailCache;
+import com.example.project.route.service.RouteExportService;
+import com.example.project.route.service.RouteGenerationService;
+import com.example.project.route.service.RouteLikeCounter;
+import com.example.project.route.service.RouteRevisionService;
+import com.example.project.route.dto.SimilarRouteDto;
 import com.example.project.route.service.RouteService;
+import com.example.project.route.service.RouteSimilarityIndex;
+import com.example.project.route.service.RouteSpatialIndex;
+import com.example.project.route.service.TrendingRouteService;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * RouteController
@@ -17,10 +51,27 @@ import java.util.List;
  *
  * 기능:
  *  - 일정 생성 POST /api/route
- *  - 상세 조회 GET /api/route/{routeId}
+ *    (생성 / 복제 / AI 일정 생성은 Idempotency-Key 헤더를 주면 재시도에 첫 결과를 그대로 돌려줌)
+ *  - 상세 조회 GET /api/route/{routeId} (ETag / If-None-Match → 304)
  *  - 특정 회원의 일정 목록 조회 GET /api/route/member/{memberId}
+ *  - 인기 일정 피드 GET /api/route/trending?page=&size=
+ *  - 주변 일정 GET /api/route/nearby?lat=&lng=&radius=
+ *  - 화면 영역 일정 GET /api/route/viewport?minLat=&minLng=&maxLat=&maxLng=
  *  - 일정 수정 PUT /api/route/{routeId}
+ *  - 일정 부분 수정 PATCH /api/route/{routeId}
  *  - 일정 삭제 DELETE /api/route/{routeId}
+ *  - 일정 복제 POST /api/route/{routeId}/clone (로그인 회원 소유로 복사)
+ *  - 일차별 구간 경로 GET /api/route/{routeId}/legs?day=
+ *  - 비슷한 일정 GET /api/route/{routeId}/similar
+ *  - 좋아요 수 GET /api/route/{routeId}/like-count (메모리 카운터)
+ *  - 변경 이력 GET /api/route/{routeId}/versions, 버전 내용 GET /api/route/{routeId}/versions/{version}
+ *  - 버전으로 되돌리기 POST /api/route/{routeId}/versions/{version}/restore
+ *  - GPX/KML 내보내기 GET /api/route/{routeId}/export?format=gpx|kml&legs= (legs=true 는 로그인 필요)
+ *  - 오프라인 번들 GET /api/route/{routeId}/bundle (ETag, Range 지원, 로그인 필요)
+ *  - AI 일정 생성 작업 등록 POST /api/route/generate → 202 + 작업 id
+ *  - AI 일정 생성 작업 조회 GET /api/route/generate/{jobId} (진행률, 결과)
+ *  - AI 일정 생성 진행 상황 SSE GET /api/route/generate/{jobId}/events
+ *  - AI 일정 생성 대기열 지표 GET /api/route/generate/metrics
  */
 @RestController
 @RequiredArgsConstructor
@@ -28,27 +79,196 @@ import java.util.List;
 public class RouteController {
 
     private final RouteService routeService;
+    private final RouteStepsBatchService routeStepsBatchService;
+    private final RouteDetailCache routeDetailCache;
+    private final TrendingRouteService trendingRouteService;
+    private final RouteSpatialIndex routeSpatialIndex;
+    private final RouteSimilarityIndex routeSimilarityIndex;
+    private final RouteExportService routeExportService;
+    private final RouteBundleService routeBundleService;
+    private final RouteGenerationService routeGenerationService;
+    private final RouteRevisionService routeRevisionService;
+    private final IdempotencyStore idempotencyStore;
+    private final RouteLikeCounter routeLikeCounter;
 
     /** 일정 생성 */
     @PostMapping
-    public Long createRoute(@RequestBody RouteCreateRequestDto dto) {
-        return routeService.createRoute(dto);
+    public Long createRoute(
+            @RequestBody RouteCreateRequestDto dto,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            Principal principal
+    ) {
+        return idempotencyStore.execute(idempotencyKey, "route:create:" + principal.getName(), dto,
+                () -> routeService.createRoute(dto));
     }
 
-    /** 일정 상세 조회 */
+    /**
+     * 일정 상세 조회
+     * 직렬화된 응답을 캐시에서 꺼내 보내고, 클라이언트 ETag 가 같으면 본문 없이 304 를 돌려준다.
+     */
     @GetMapping("/{routeId}")
-    public RouteDetailResponseDto getRouteDetail(
-            @PathVariable("routeId") Long routeId
+    public ResponseEntity<byte[]> getRouteDetail(
+            @PathVariable("routeId") Long routeId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        RouteDetailCache.CachedDetail detail =
+                routeDetailCache.getOrLoad(routeId, () -> routeService.getRouteDetail(routeId));
+
+        if (RouteDetailCache.matches(ifNoneMatch, detail.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(detail.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(detail.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(detail.getBody());
+    }
+
+    /** 일차별 구간 경로 일괄 조회 (연속된 두 장소마다 구간 1개, Google 호출이 생기므로 로그인 필요) */
+    @GetMapping("/{routeId}/legs")
+    public List<RouteLegResultDto> getDayLegs(
+            @PathVariable("routeId") Long routeId,
+            @RequestParam("day") int day,
+            @RequestParam(value = "travelMode", defaultValue = "WALK") String travelMode,
+            @RequestParam(value = "languageCode", defaultValue = "ko-KR") String languageCode,
+            @RequestParam(value = "simplify", required = false) Double simplify,
+            @RequestParam(value = "merge", defaultValue = "false") boolean merge
     ) {
-        return routeService.getRouteDetail(routeId);
+        return routeStepsBatchService.computeLegs(
+                routeService.getDayStops(routeId, day), travelMode, languageCode, simplify, merge);
     }
 
-    /** 특정 회원의 일정 목록 조회 */
+    /**
+     * 특정 회원의 일정 목록 조회
+     * afterId: 이전 페이지 마지막 routeId (keyset 페이지), size: 최대 100
+     */
     @GetMapping("/member/{memberId}")
     public List<RouteListItemDto> getRoutesByMember(
-            @PathVariable("memberId") Long memberId
+            @PathVariable("memberId") Long memberId,
+            @RequestParam(value = "afterId", required = false) Long afterId,
+            @RequestParam(value = "size", defaultValue = "100") int size
+    ) {
+        return routeService.getRoutesByMember(memberId, afterId, Math.min(Math.max(size, 1), 100));
+    }
+
+    /** 인기 일정 피드 (시간 감쇠 좋아요 점수 순), size: 최대 100 */
+    @GetMapping("/trending")
+    public List<RouteListItemDto> getTrending(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return trendingRouteService.getTrending(Math.max(page, 0), Math.min(Math.max(size, 1), 100));
+    }
+
+    /**
+     * 주변 일정: (lat, lng) 반경 radius(m, 최대 50km) 안에 장소가 있는 일정, 가까운 순
+     */
+    @GetMapping("/nearby")
+    public List<RouteListItemDto> getNearbyRoutes(
+            @RequestParam("lat") double lat,
+            @RequestParam("lng") double lng,
+            @RequestParam(value = "radius", defaultValue = "5000") double radius,
+            @RequestParam(value = "limit", defaultValue = "50") int limit
+    ) {
+        List<Long> ids = routeSpatialIndex.findNear(
+                lat, lng, Math.min(Math.max(radius, 0), 50000), Math.min(Math.max(limit, 1), 100));
+        return routeService.getListItems(ids);
+    }
+
+    /**
+     * 화면 영역 일정: 지도 영역 안에 장소가 있는 일정, 최신 일정 순
+     */
+    @GetMapping("/viewport")
+    public List<RouteListItemDto> getRoutesInViewport(
+            @RequestParam("minLat") double minLat,
+            @RequestParam("minLng") double minLng,
+            @RequestParam("maxLat") double maxLat,
+            @RequestParam("maxLng") double maxLng,
+            @RequestParam(value = "limit", defaultValue = "100") int limit
     ) {
-        return routeService.getRoutesByMember(memberId);
+        List<Long> ids = routeSpatialIndex.findInViewport(
+                minLat, minLng, maxLat, maxLng, Math.min(Math.max(limit, 1), 100));
+        return routeService.getListItems(ids);
+    }
+
+    /**
+     * 비슷한 일정: 방문 장소가 많이 겹치는 일정 (추정 유사도 순, limit 최대 50)
+     */
+    @GetMapping("/{routeId}/similar")
+    public List<SimilarRouteDto> getSimilarRoutes(
+            @PathVariable("routeId") Long routeId,
+            @RequestParam(value = "limit", defaultValue = "10") int limit
+    ) {
+        List<RouteSimilarityIndex.Match> matches =
+                routeSimilarityIndex.findSimilar(routeId, Math.min(Math.max(limit, 1), 50));
+
+        Map<Long, RouteSimilarityIndex.Match> byId = matches.stream()
+                .collect(Collectors.toMap(RouteSimilarityIndex.Match::getRouteId, Function.identity()));
+
+        return routeService.getListItems(matches.stream().map(RouteSimilarityIndex.Match::getRouteId).toList())
+                .stream()
+                .map(item -> new SimilarRouteDto(item, byId.get(item.getRouteId()).getSimilarity()))
+                .toList();
+    }
+
+    /**
+     * 일정 내보내기 (GPX / KML)
+     * 응답 스트림에 바로 출력하므로 일정 길이와 관계없이 메모리 사용량이 일정하다.
+     * legs=true 이면 장소 사이를 실제 경로(route-steps)로 잇는다.
+     */
+    @GetMapping("/{routeId}/export")
+    public ResponseEntity<StreamingResponseBody> exportRoute(
+            @PathVariable("routeId") Long routeId,
+            @RequestParam(value = "format", defaultValue = "gpx") String format,
+            @RequestParam(value = "legs", defaultValue = "false") boolean legs,
+            @RequestParam(value = "travelMode", defaultValue = "WALK") String travelMode
+    ) {
+        RouteExportService.Format exportFormat = RouteExportService.Format.from(format);
+        if (legs) {
+            routeExportService.checkTravelMode(travelMode);
+        }
+        String title = routeExportService.getTitle(routeId);
+
+        StreamingResponseBody body = out ->
+                routeExportService.export(routeId, title, exportFormat, legs, travelMode, out);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(title + "." + exportFormat.getExtension(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * 오프라인 번들 다운로드 (장소, 일차별 순서, 단순화된 구간 경로, 사진 참조를 한 파일로)
+     * Range 요청은 206 으로 이어받기를 지원하고, ETag 가 같으면 304 를 돌려준다.
+     */
+    @GetMapping("/{routeId}/bundle")
+    public ResponseEntity<Resource> getBundle(
+            @PathVariable("routeId") Long routeId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) throws IOException {
+        RouteBundleService.Bundle bundle = routeBundleService.getBundle(routeId);
+
+        if (RouteDetailCache.matches(ifNoneMatch, bundle.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(bundle.getEtag()).build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(bundle.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(bundle.getPath().getFileName().toString())
+                        .build()
+                        .toString())
+                .body(new FileSystemResource(bundle.getPath()));
     }
 
     /** 일정 수정 */
@@ -60,6 +280,106 @@ public class RouteController {
         routeService.updateRoute(routeId, dto);
     }
 
+    /**
+     * 일정 부분 수정 (장소 추가/이동/삭제, 제목 변경)
+     * 연산 순서대로 INSERT 로 만들어진 routePlaceId 를 돌려준다. (다른 연산은 null)
+     */
+    @PatchMapping("/{routeId}")
+    public List<Long> patchRoute(
+            @PathVariable("routeId") Long routeId,
+            @RequestBody RoutePatchRequestDto dto
+    ) {
+        return routeService.patchRoute(routeId, dto);
+    }
+
+    /** 좋아요 수 (COUNT 쿼리 없이 메모리 카운터에서) */
+    @GetMapping("/{routeId}/like-count")
+    public Map<String, Long> getLikeCount(
+            @PathVariable("routeId") Long routeId
+    ) {
+        return Map.of("routeId", routeId, "likeCount", routeLikeCounter.get(routeId));
+    }
+
+    /** 일정 변경 이력 (최신 버전부터) */
+    @GetMapping("/{routeId}/versions")
+    public List<RouteRevisionDto> getRouteVersions(
+            @PathVariable("routeId") Long routeId,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return routeRevisionService.getHistory(routeId, Math.min(Math.max(size, 1), 100));
+    }
+
+    /** 특정 버전의 일정 내용 */
+    @GetMapping("/{routeId}/versions/{version}")
+    public RouteVersionResponseDto getRouteVersion(
+            @PathVariable("routeId") Long routeId,
+            @PathVariable("version") int version
+    ) {
+        return routeRevisionService.getVersion(routeId, version);
+    }
+
+    /** 특정 버전으로 되돌리기 (되돌린 결과도 새 버전으로 기록) */
+    @PostMapping("/{routeId}/versions/{version}/restore")
+    public void restoreRouteVersion(
+            @PathVariable("routeId") Long routeId,
+            @PathVariable("version") int version
+    ) {
+        routeRevisionService.restore(routeId, version);
+    }
+
+    /** 일정 복제 → 새 일정 id 반환 */
+    @PostMapping("/{routeId}/clone")
+    public Long cloneRoute(
+            @PathVariable("routeId") Long routeId,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            Principal principal
+    ) {
+        return idempotencyStore.execute(idempotencyKey, "route:clone:" + routeId + ":" + principal.getName(), null,
+                () -> routeService.cloneRoute(routeId, principal));
+    }
+
+    /**
+     * AI 일정 생성 작업 등록
+     * Python 응답을 기다리지 않고 작업 id 를 바로 돌려준다. (결과는 GET /generate/{jobId} 로 조회)
+     */
+    @PostMapping("/generate")
+    public ResponseEntity<RouteGenerateJobDto> generateRoute(
+            @RequestBody RouteGenerateRequestDto dto,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            Principal principal
+    ) {
+        RouteGenerateJobDto job = idempotencyStore.execute(idempotencyKey, "route:generate:" + principal.getName(), dto,
+                () -> routeGenerationService.submit(dto, principal));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /** AI 일정 생성 대기열 지표 */
+    @GetMapping("/generate/metrics")
+    public RouteGenerateMetricsDto getGenerateMetrics() {
+        return routeGenerationService.getMetrics();
+    }
+
+    /** AI 일정 생성 작업 상태 / 결과 */
+    @GetMapping("/generate/{jobId}")
+    public RouteGenerateJobDto getGenerateJob(
+            @PathVariable("jobId") String jobId,
+            Principal principal
+    ) {
+        return routeGenerationService.getJob(jobId, principal);
+    }
+
+    /**
+     * AI 일정 생성 진행 상황 스트림 (SSE)
+     * 단계가 바뀔 때마다 progress 이벤트, 끝나면 done 이벤트 후 종료
+     */
+    @GetMapping(value = "/generate/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamGenerateJob(
+            @PathVariable("jobId") String jobId,
+            Principal principal
+    ) {
+        return routeGenerationService.subscribe(jobId, principal);
+    }
+
     /** 일정 삭제 */
     @DeleteMapping("/{routeId}")
     public void deleteRoute(
@@ -0,0 +1,94 @@
+package com.example.project.route.controller;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import com.example.project.global.hashid.HashidToLongConverter;
+import com.example.project.route.dto.RouteEditMessageDto;
+import com.example.project.route.repository.RouteRepository;
+import com.example.project.route.service.RouteEditHub;
+import com.example.project.security.config.JwtHandshakeInterceptor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * RouteEditSocketHandler
+ * ---------------------------------------
+ * 일정 공동 편집 WebSocket: /ws/route/{routeId}?token={JWT}
+ *
+ *  - routeId 는 REST API 와 같은 hashid 형식
+ *  - 일정 작성자만 입장 가능 (아니면 POLICY_VIOLATION 으로 연결 종료)
+ *    ※ 현재는 일정 공유(멤버) 모델이 없어 같은 작성자의 여러 기기/탭 간 동시 편집만 지원.
+ *      여행 그룹 공동 편집은 공유 멤버 테이블이 생기면 이 권한 검사만 바꾸면 됨
+ *  - 접속 시 편집방에 들어가고 hello(seq) 를 받음
+ *  - 편집 연산(RouteEditMessageDto) 을 보내면 ack / error 를 받고,
+ *    다른 편집자의 연산은 op 메시지로 seq 순서대로 받음
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteEditSocketHandler extends TextWebSocketHandler {
+
+    private static final String ATTR_ROUTE_ID = "routeId";
+    private static final String ATTR_SESSION = "editSession";
+
+    private final RouteEditHub routeEditHub;
+    private final RouteRepository routeRepository;
+    private final HashidToLongConverter hashidToLongConverter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
+
+        String path = session.getUri() != null ? session.getUri().getPath() : "";
+        Long routeId = hashidToLongConverter.convert(path.substring(path.lastIndexOf('/') + 1));
+
+        if (routeId == null || !routeRepository.existsById(routeId)) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("Route not found"));
+            return;
+        }
+
+        Integer memberId = (Integer) session.getAttributes().get(JwtHandshakeInterceptor.ATTR_MEMBER_ID);
+        if (memberId == null || !routeRepository.existsByIdAndUser_Id(routeId, memberId)) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("Not allowed to edit this route"));
+            return;
+        }
+
+        session.getAttributes().put(ATTR_ROUTE_ID, routeId);
+        session.getAttributes().put(ATTR_SESSION, routeEditHub.join(routeId, session));
+    }
+
+    @Override
+    protected void handleTextMessage(@NonNull WebSocketSession session, @NonNull TextMessage message) {
+
+        Long routeId = (Long) session.getAttributes().get(ATTR_ROUTE_ID);
+        WebSocketSession editSession = (WebSocketSession) session.getAttributes().get(ATTR_SESSION);
+        if (routeId == null || editSession == null) {
+            return;
+        }
+
+        RouteEditMessageDto edit;
+        try {
+            edit = objectMapper.readValue(message.getPayload(), RouteEditMessageDto.class);
+        } catch (JsonProcessingException e) {
+            edit = new RouteEditMessageDto();
+        }
+
+        Integer memberId = (Integer) session.getAttributes().get(JwtHandshakeInterceptor.ATTR_MEMBER_ID);
+        routeEditHub.submit(routeId, editSession, memberId, edit);
+    }
+
+    @Override
+    public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus status) {
+        Long routeId = (Long) session.getAttributes().get(ATTR_ROUTE_ID);
+        WebSocketSession editSession = (WebSocketSession) session.getAttributes().get(ATTR_SESSION);
+        if (routeId != null && editSession != null) {
+            routeEditHub.leave(routeId, editSession);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.project.route.domain;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -8,6 +9,10 @@ import com.example.project.member.domain.TravelUser;
 import com.example.project.place.domain.Place;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -16,6 +21,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -26,8 +33,13 @@ import lombok.Setter;
 @Setter
 public class Route {
 
+    /**
+     * 시퀀스 pooled 할당 (allocationSize = 시퀀스 INCREMENT BY)
+     * IDENTITY 와 달리 persist 시점에 INSERT 를 즉시 실행하지 않아 JDBC 배치가 가능하다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_route_id_gen")
+    @SequenceGenerator(name = "seq_route_id_gen", sequenceName = "SEQ_ROUTE_ID", allocationSize = 50)
     private Long id;
 
     /**
@@ -45,6 +57,30 @@ public class Route {
 
     private int totalDays;
 
+    /**
+     * 일정 전체 요약 (장소 수, 거리, 예상 이동 시간, bounding box, 중심점)
+     * RouteSummaryService 가 일정 저장 후 백그라운드에서 계산한다.
+     */
+    @Embedded
+    private RouteSummary summary;
+
+    /** 일차별 요약 */
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "route_day_summary", joinColumns = @JoinColumn(name = "route_id"))
+    @OrderBy("dayIndex ASC")
+    private List<RouteDaySummary> daySummaries = new ArrayList<>();
+
+    /** 요약을 마지막으로 계산한 시각 */
+    private LocalDateTime summaryUpdatedAt;
+
+    /**
+     * 좋아요 수
+     * RouteLikeCounter 가 메모리에서 모은 증감을 주기적으로 반영하고, 서버 시작 시 좋아요 테이블 기준으로 다시 맞춘다.
+     * 일정 수정(dirty checking)이 읽어온 옛 값으로 덮어쓰지 않도록 엔티티 UPDATE 에서는 제외
+     */
+    @Column(name = "like_count", updatable = false)
+    private Long likeCount = 0L;
+
     @OneToMany(mappedBy = "route", cascade = CascadeType.ALL)
     private List<RoutePlace> routePlaces = new ArrayList<>();
 }
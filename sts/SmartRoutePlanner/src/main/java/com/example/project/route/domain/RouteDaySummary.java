@@ -0,0 +1,29 @@
+package com.example.project.route.domain;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * RouteDaySummary
+ * ---------------------------------------
+ * 일차별 요약 값 (Route.daySummaries 로 route_day_summary 테이블에 저장)
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+public class RouteDaySummary {
+
+    private int dayIndex;
+
+    @Embedded
+    private RouteSummary summary;
+
+    public RouteDaySummary(int dayIndex, RouteSummary summary) {
+        this.dayIndex = dayIndex;
+        this.summary = summary;
+    }
+}
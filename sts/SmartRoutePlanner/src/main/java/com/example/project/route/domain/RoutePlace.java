@@ -27,8 +27,10 @@ import lombok.Setter;
 @Setter
 public class RoutePlace {
 
+    /** 시퀀스 pooled 할당 → 일정 저장 시 RoutePlace INSERT 를 한 번의 JDBC 배치로 전송 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_route_place_id_gen")
+    @SequenceGenerator(name = "seq_route_place_id_gen", sequenceName = "SEQ_ROUTE_PLACE_ID", allocationSize = 50)
     private Long id;
 
     /** 이 RoutePlace가 속한 일정 */
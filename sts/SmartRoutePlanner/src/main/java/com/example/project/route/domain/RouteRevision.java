@@ -0,0 +1,70 @@
+package com.example.project.route.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * RouteRevision
+ * ---------------------------------------
+ * 일정 변경 이력 1건 (버전).
+ *
+ *  - 기본 정보(title, 기간, totalDays)는 버전마다 그대로 저장 (작은 값)
+ *  - 장소 목록(payload)은 JSON {"일차": [placeId, ...]}
+ *      FULL : 모든 일차 (체크포인트)
+ *      DELTA: 직전 버전과 달라진 일차만
+ *  - 버전 n 은 n 이하의 가장 가까운 FULL 부터 n 까지의 DELTA 를 차례로 덮어써서 복원한다.
+ */
+@Entity
+@Table(name = "route_revision",
+        uniqueConstraints = @UniqueConstraint(name = "UK_ROUTE_REVISION", columnNames = { "route_id", "revision_no" }))
+@Getter
+@Setter
+public class RouteRevision {
+
+    public enum Kind {
+        FULL, DELTA
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_route_revision_id_gen")
+    @SequenceGenerator(name = "seq_route_revision_id_gen", sequenceName = "SEQ_ROUTE_REVISION_ID", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "route_id", nullable = false)
+    private Long routeId;
+
+    /** 일정별 버전 번호 (1부터) */
+    @Column(name = "revision_no", nullable = false)
+    private int version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Kind kind;
+
+    private String title;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private int totalDays;
+
+    @Lob
+    private String payload;
+
+    private LocalDateTime createdAt;
+}
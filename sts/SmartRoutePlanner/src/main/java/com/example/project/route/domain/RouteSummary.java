@@ -0,0 +1,35 @@
+package com.example.project.route.domain;
+
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * RouteSummary
+ * ---------------------------------------
+ * 일정(또는 하루) 단위 요약 값.
+ * 일정 저장 후 백그라운드에서 계산해 저장하며, 아직 계산 전이면 모든 값이 null 이다.
+ *
+ *  - stopCount: 방문 장소 수
+ *  - distanceMeters: 연속된 장소 간 직선 거리 합 (일차를 넘어가는 이동은 제외)
+ *  - travelMinutes: 직선 거리 기준 예상 이동 시간(분)
+ *  - minLat ~ maxLng: 장소 좌표의 bounding box
+ *  - centerLat, centerLng: 장소 좌표의 평균(중심점)
+ */
+@Embeddable
+@Getter
+@Setter
+public class RouteSummary {
+
+    private Integer stopCount;
+    private Double distanceMeters;
+    private Integer travelMinutes;
+
+    private Double minLat;
+    private Double minLng;
+    private Double maxLat;
+    private Double maxLng;
+
+    private Double centerLat;
+    private Double centerLng;
+}
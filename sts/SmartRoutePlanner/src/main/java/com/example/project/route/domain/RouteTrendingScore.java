@@ -0,0 +1,33 @@
+package com.example.project.route.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * RouteTrendingScore
+ * ---------------------------------------
+ * 인기 일정 점수 체크포인트.
+ * 메모리 랭킹(TrendingRouteService)을 주기적으로 저장해 두고, 서버 시작 시 다시 읽어온다.
+ *
+ *  - score: checkpointAt 시점 기준으로 감쇠가 반영된 좋아요 점수
+ */
+@Entity
+@Table(name = "route_trending_score")
+@Getter
+@Setter
+public class RouteTrendingScore {
+
+    @Id
+    @Column(name = "route_id")
+    private Long routeId;
+
+    private double score;
+
+    private LocalDateTime checkpointAt;
+}
@@ -0,0 +1,21 @@
+package com.example.project.route.dto;
+
+import com.example.project.route.domain.RouteDaySummary;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일차별 요약 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class RouteDaySummaryDto {
+
+    private int dayIndex;
+    private RouteSummaryDto summary;
+
+    public static RouteDaySummaryDto from(RouteDaySummary day) {
+        return new RouteDaySummaryDto(day.getDayIndex(), RouteSummaryDto.from(day.getSummary()));
+    }
+}
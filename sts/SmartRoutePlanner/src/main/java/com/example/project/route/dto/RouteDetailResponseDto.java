@@ -19,6 +19,7 @@ import com.example.project.route.domain.Route;
  *  - memberId: 작성자 ID
  *  - title, startDate, endDate
  *  - days: DayItineraryDto 리스트 (일자별 장소 리스트)
+ *  - summary, daySummaries: 일정/일차별 요약 (계산 전이면 null / 빈 리스트)
  */
 @Getter
 @Setter
@@ -32,4 +33,6 @@ public class RouteDetailResponseDto {
     private LocalDate startDate;
     private LocalDate endDate;
     private List<List<PlaceSummaryDto>> places;
+    private RouteSummaryDto summary;
+    private List<RouteDaySummaryDto> daySummaries;
     }
@@ -0,0 +1,45 @@
+package com.example.project.route.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 공동 편집 WebSocket 으로 서버가 보내는 메시지
+ *
+ *  - hello: 접속 직후, 현재 seq
+ *  - op   : 다른 편집자가 반영한 연산 (seq 순서대로)
+ *  - ack  : 내가 보낸 연산이 seq 번째로 반영됨
+ *  - op / ack 의 routePlaceId: INSERT 로 새로 만들어진 장소 id (이후 MOVE / REMOVE 대상)
+ *  - error: 내가 보낸 연산이 반영되지 않음 (message)
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RouteEditEventDto {
+
+    private String type;
+    private Long seq;
+    private Integer memberId;
+    private String clientOpId;
+    private RoutePatchRequestDto.Operation op;
+    private Long routePlaceId;
+    private String message;
+
+    public static RouteEditEventDto hello(long seq) {
+        return new RouteEditEventDto("hello", seq, null, null, null, null, null);
+    }
+
+    public static RouteEditEventDto op(long seq, Integer memberId, RoutePatchRequestDto.Operation op, Long routePlaceId) {
+        return new RouteEditEventDto("op", seq, memberId, null, op, routePlaceId, null);
+    }
+
+    public static RouteEditEventDto ack(long seq, String clientOpId, Long routePlaceId) {
+        return new RouteEditEventDto("ack", seq, null, clientOpId, null, routePlaceId, null);
+    }
+
+    public static RouteEditEventDto error(String clientOpId, String message) {
+        return new RouteEditEventDto("error", null, null, clientOpId, null, null, message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.project.route.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공동 편집 WebSocket 으로 클라이언트가 보내는 편집 연산 1개
+ *
+ *  - clientOpId: 클라이언트가 붙이는 연산 id (ack / error 응답에 그대로 돌려줌)
+ *  - op: PATCH 와 같은 연산 (INSERT / MOVE / REMOVE / RETITLE)
+ *
+ * 예시:
+ * { "clientOpId": "a1", "op": { "type": "MOVE", "routePlaceId": 12, "dayIndex": 2, "orderIndex": 1 } }
+ */
+@Data
+@NoArgsConstructor
+public class RouteEditMessageDto {
+
+    private String clientOpId;
+    private RoutePatchRequestDto.Operation op;
+}
@@ -0,0 +1,19 @@
+package com.example.project.route.dto;
+
+/**
+ * 일정 내보내기(GPX/KML)용 방문 지점 프로젝션
+ */
+public interface RouteExportPoint {
+
+    int getDayIndex();
+
+    int getOrderIndex();
+
+    String getPlaceName();
+
+    String getAddress();
+
+    double getLat();
+
+    double getLng();
+}
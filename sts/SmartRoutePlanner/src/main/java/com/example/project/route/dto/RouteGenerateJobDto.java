@@ -0,0 +1,32 @@
+package com.example.project.route.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * AI 일정 생성 작업 상태 응답 DTO
+ *
+ *  - status: QUEUED / RUNNING / DONE / FAILED
+ *  - stage, progress(0~100): 현재 단계와 진행률, detail: 단계 설명 (예: "2/3일차")
+ *  - waitMillis: 대기열에서 기다린 시간, runMillis: 실행 시간
+ *  - result: 완료 시 Python /optimize 응답 (optimized_places)
+ *  - error: 실패 사유
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RouteGenerateJobDto {
+
+    private String jobId;
+    private String status;
+    private String stage;
+    private int progress;
+    private String detail;
+    private Long waitMillis;
+    private Long runMillis;
+    private JsonNode result;
+    private String error;
+}
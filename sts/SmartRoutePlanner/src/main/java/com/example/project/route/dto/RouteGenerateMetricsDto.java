@@ -0,0 +1,27 @@
+package com.example.project.route.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * AI 일정 생성 작업 지표
+ *
+ *  - queueDepth: 대기 중인 작업 수, running: 실행 중인 작업 수
+ *  - submitted / completed / failed / rejected: 누적 건수
+ *  - avg·max WaitMillis: 대기 시간, avg·max RunMillis: 실행 시간 (완료/실패 작업 기준)
+ */
+@Getter
+@AllArgsConstructor
+public class RouteGenerateMetricsDto {
+
+    private int queueDepth;
+    private int running;
+    private long submitted;
+    private long completed;
+    private long failed;
+    private long rejected;
+    private long avgWaitMillis;
+    private long maxWaitMillis;
+    private long avgRunMillis;
+    private long maxRunMillis;
+}
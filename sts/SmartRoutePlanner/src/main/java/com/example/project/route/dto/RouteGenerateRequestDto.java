@@ -0,0 +1,22 @@
+package com.example.project.route.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * AI 일정 생성 요청 DTO (Python /optimize 에 그대로 전달)
+ *  - places: 후보 장소 목록 (프론트에서 보내는 장소 객체 그대로)
+ *  - days: 여행 일수
+ *  - travelMode: 있으면 생성된 일차별 구간 경로도 함께 계산 (WALK, DRIVE, TRANSIT ...)
+ */
+@Getter
+@Setter
+public class RouteGenerateRequestDto {
+
+    private List<Map<String, Object>> places;
+    private int days;
+    private String travelMode;
+}
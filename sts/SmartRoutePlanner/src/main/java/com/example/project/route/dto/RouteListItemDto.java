@@ -26,6 +26,14 @@ public class RouteListItemDto {
 
     private String mainPlaceName;      // 첫 번째 장소 이름 (예: 인천국제공항)
     private String photoUrl; // 첫 번째 장소의 사진 참조값 (구글 이미지 API용)
+
+    // 일정 요약 (백그라운드 계산 전이면 null)
+    private Integer stopCount;
+    private Double distanceMeters;
+    private Integer travelMinutes;
+
+    // 좋아요 수 (주기적으로 반영되는 값, 최신 값은 RouteLikeCounter)
+    private Long likeCount;
     
     /**
      * Route 엔티티를 편하게 DTO로 변환하기 위한 생성자
@@ -36,6 +44,13 @@ public class RouteListItemDto {
         this.startDate = route.getStartDate();
         this.endDate = route.getEndDate();
         this.totalDays = route.getTotalDays();
+
+        if (route.getSummary() != null) {
+            this.stopCount = route.getSummary().getStopCount();
+            this.distanceMeters = route.getSummary().getDistanceMeters();
+            this.travelMinutes = route.getSummary().getTravelMinutes();
+        }
+        this.likeCount = route.getLikeCount() != null ? route.getLikeCount() : 0L;
         
      // 🔥 [추가된 로직] 첫 번째 장소 정보가 있으면 채워넣기
         if (firstPlace != null) {
@@ -0,0 +1,52 @@
+package com.example.project.route.dto;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * RoutePatchRequestDto
+ * ---------------------------------------
+ * 일정 부분 수정(PATCH) 요청 DTO.
+ * 전체 일정을 다시 보내는 대신 바뀐 부분만 연산 목록으로 보낸다.
+ *
+ * 연산 종류:
+ *  - INSERT : placeId 장소를 dayIndex 일차 orderIndex 위치에 추가 (orderIndex 없으면 맨 뒤)
+ *  - MOVE   : routePlaceId 장소를 dayIndex 일차 orderIndex 위치로 이동
+ *  - REMOVE : routePlaceId 장소 삭제
+ *  - RETITLE: 일정 제목 변경
+ *  - dayIndex 는 (앞 연산까지 반영한 총 일수 + 1) 까지만 가능 (새 일차는 하루씩 추가, 종료일도 함께 늘어남)
+ *
+ * 예시:
+ * {
+ *   "operations": [
+ *     { "type": "MOVE", "routePlaceId": 12, "dayIndex": 2, "orderIndex": 1 },
+ *     { "type": "INSERT", "placeId": "ChIJN1t_tDeuEmsRUsoyG83frY4", "dayIndex": 1 }
+ *   ]
+ * }
+ */
+@Data
+@NoArgsConstructor
+public class RoutePatchRequestDto {
+
+    private List<Operation> operations;
+
+    public enum OperationType {
+        INSERT, MOVE, REMOVE, RETITLE
+    }
+
+    /**
+     * 연산 하나
+     */
+    @Data
+    @NoArgsConstructor
+    public static class Operation {
+        private OperationType type;
+        private Long routePlaceId;   // MOVE, REMOVE 대상
+        private Integer dayIndex;    // INSERT, MOVE 목적지 일차 (1부터)
+        private Integer orderIndex;  // INSERT, MOVE 목적지 순서 (1부터)
+        private String placeId;      // INSERT 할 Google placeId
+        private String title;        // RETITLE
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.project.route.dto;
+
+/**
+ * RoutePlace 의 현재 위치(일차, 순서)만 읽는 프로젝션
+ */
+public interface RoutePlacePosition {
+
+    int getDayIndex();
+
+    int getOrderIndex();
+}
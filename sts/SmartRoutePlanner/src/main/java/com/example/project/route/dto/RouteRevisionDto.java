@@ -0,0 +1,29 @@
+package com.example.project.route.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.project.route.domain.RouteRevision;
+
+import lombok.Getter;
+
+/**
+ * 일정 버전 목록 항목 DTO
+ *  - kind: FULL(체크포인트) / DELTA(달라진 일차만 저장)
+ */
+@Getter
+public class RouteRevisionDto {
+
+    private final int version;
+    private final String kind;
+    private final String title;
+    private final int totalDays;
+    private final LocalDateTime createdAt;
+
+    public RouteRevisionDto(int version, RouteRevision.Kind kind, String title, int totalDays, LocalDateTime createdAt) {
+        this.version = version;
+        this.kind = kind.name();
+        this.title = title;
+        this.totalDays = totalDays;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.project.route.dto;
+
+/**
+ * 일정의 방문 지점 (일정 id, 장소 id, 일차, 위도, 경도) 프로젝션
+ */
+public interface RouteStopPoint {
+
+    Long getRouteId();
+
+    Long getPlaceId();
+
+    int getDayIndex();
+
+    double getLat();
+
+    double getLng();
+}
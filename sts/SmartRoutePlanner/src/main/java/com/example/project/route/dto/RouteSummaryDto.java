@@ -0,0 +1,36 @@
+package com.example.project.route.dto;
+
+import com.example.project.route.domain.RouteSummary;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일정(또는 하루) 요약 응답 DTO (RouteSummary 값 그대로)
+ */
+@Getter
+@AllArgsConstructor
+public class RouteSummaryDto {
+
+    private Integer stopCount;
+    private Double distanceMeters;
+    private Integer travelMinutes;
+
+    private Double minLat;
+    private Double minLng;
+    private Double maxLat;
+    private Double maxLng;
+
+    private Double centerLat;
+    private Double centerLng;
+
+    /** 계산 전(null 또는 값 없음)이면 null */
+    public static RouteSummaryDto from(RouteSummary s) {
+        if (s == null || s.getStopCount() == null) {
+            return null;
+        }
+        return new RouteSummaryDto(s.getStopCount(), s.getDistanceMeters(), s.getTravelMinutes(),
+                s.getMinLat(), s.getMinLng(), s.getMaxLat(), s.getMaxLng(),
+                s.getCenterLat(), s.getCenterLng());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.project.route.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 특정 버전의 일정 내용 응답 DTO
+ *  - places: 상세 조회와 같은 2차원 리스트 (일차별 장소 목록)
+ */
+@Getter
+@AllArgsConstructor
+public class RouteVersionResponseDto {
+
+    private Long routeId;
+    private int version;
+    private LocalDateTime createdAt;
+    private String title;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<List<PlaceSummaryDto>> places;
+}
@@ -0,0 +1,17 @@
+package com.example.project.route.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 비슷한 일정 응답 DTO
+ *  - route: 일정 목록 정보
+ *  - similarity: 방문 장소 집합의 추정 Jaccard 유사도 (0 ~ 1)
+ */
+@Getter
+@AllArgsConstructor
+public class SimilarRouteDto {
+
+    private RouteListItemDto route;
+    private double similarity;
+}
@@ -3,11 +3,20 @@ package com.example.project.route.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
 import com.example.project.route.domain.RoutePlace;
+import com.example.project.route.dto.RouteExportPoint;
+import com.example.project.route.dto.RoutePlacePosition;
+import com.example.project.route.dto.RouteStopPoint;
 
 /**
  * RoutePlace 엔티티용 JPA Repository
@@ -24,9 +33,113 @@ public interface RoutePlaceRepository extends JpaRepository<RoutePlace, Long> {
     List<RoutePlace> findByRouteIdOrderByDayIndexAscOrderIndexAsc(@Param("routeId") Long routeId);
     
     /**
-     * 특정 일정에 속한 모든 RoutePlace 삭제 (일정 수정/삭제 시 사용)
+     * 특정 일정의 특정 일차 장소 목록 (방문 순서대로, Place 함께 조회)
      */
-    void deleteByRouteId(Long routeId);
-    
-    Optional<RoutePlace> findFirstByRouteIdOrderByDayIndexAscOrderIndexAsc(Long routeId);
+    @Query("SELECT rp FROM RoutePlace rp JOIN FETCH rp.place WHERE rp.route.id = :routeId AND rp.dayIndex = :dayIndex ORDER BY rp.orderIndex ASC")
+    List<RoutePlace> findDayPlaces(@Param("routeId") Long routeId, @Param("dayIndex") int dayIndex);
+
+    /**
+     * 일정의 방문 지점 좌표만 조회 (방문 순서대로, 엔티티 로딩 없음)
+     * 요약 계산 등 좌표만 필요한 곳에서 사용
+     */
+    @Query("SELECT rp.route.id AS routeId, p.id AS placeId, rp.dayIndex AS dayIndex, p.lat AS lat, p.lng AS lng "
+            + "FROM RoutePlace rp JOIN rp.place p "
+            + "WHERE rp.route.id = :routeId ORDER BY rp.dayIndex ASC, rp.orderIndex ASC")
+    List<RouteStopPoint> findStopPoints(@Param("routeId") Long routeId);
+
+    /**
+     * 전체 일정의 방문 지점 (일정 id 순, 서버 시작 시 공간/유사 일정 인덱스 구성용)
+     */
+    @Query("SELECT rp.route.id AS routeId, p.id AS placeId, rp.dayIndex AS dayIndex, p.lat AS lat, p.lng AS lng "
+            + "FROM RoutePlace rp JOIN rp.place p "
+            + "ORDER BY rp.route.id ASC, rp.dayIndex ASC, rp.orderIndex ASC")
+    List<RouteStopPoint> findAllStopPoints();
+
+    /**
+     * 일정 내보내기용 방문 지점 (방문 순서대로)
+     * 출력 전에 한 번에 읽어 트랜잭션·커넥션을 바로 돌려준다. (구간 조회, 응답 쓰기 동안 커넥션을 잡지 않음)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("SELECT rp.dayIndex AS dayIndex, rp.orderIndex AS orderIndex, rp.placeName AS placeName, "
+            + "p.formattedAddress AS address, p.lat AS lat, p.lng AS lng "
+            + "FROM RoutePlace rp JOIN rp.place p "
+            + "WHERE rp.route.id = :routeId ORDER BY rp.dayIndex ASC, rp.orderIndex ASC")
+    List<RouteExportPoint> findExportPoints(@Param("routeId") Long routeId);
+
+    /**
+     * 특정 일정에 속한 모든 RoutePlace 삭제 (일정 삭제 시 사용)
+     * 파생 delete 는 엔티티를 모두 읽은 뒤 한 건씩 지우므로 DELETE 한 문장으로 처리한다.
+     */
+    @Modifying
+    @Query("DELETE FROM RoutePlace rp WHERE rp.route.id = :routeId")
+    int deleteByRouteId(@Param("routeId") Long routeId);
+
+    // ---------------- 부분 수정(PATCH)용 set-based 쿼리 ----------------
+
+    /** RoutePlace 현재 위치 조회 (엔티티를 영속성 컨텍스트에 올리지 않음) */
+    @Query("SELECT rp.dayIndex AS dayIndex, rp.orderIndex AS orderIndex FROM RoutePlace rp WHERE rp.id = :id AND rp.route.id = :routeId")
+    Optional<RoutePlacePosition> findPosition(@Param("routeId") Long routeId, @Param("id") Long id);
+
+    /** 특정 일차의 마지막 순서 (장소가 없으면 0) */
+    @Query("SELECT COALESCE(MAX(rp.orderIndex), 0) FROM RoutePlace rp WHERE rp.route.id = :routeId AND rp.dayIndex = :dayIndex")
+    int findMaxOrderIndex(@Param("routeId") Long routeId, @Param("dayIndex") int dayIndex);
+
+    /** 특정 일차에서 fromOrder ~ toOrder 범위의 순서를 delta 만큼 한 번에 이동 */
+    @Modifying
+    @Query("UPDATE RoutePlace rp SET rp.orderIndex = rp.orderIndex + :delta "
+            + "WHERE rp.route.id = :routeId AND rp.dayIndex = :dayIndex "
+            + "AND rp.orderIndex BETWEEN :fromOrder AND :toOrder")
+    int shiftOrder(@Param("routeId") Long routeId,
+                   @Param("dayIndex") int dayIndex,
+                   @Param("fromOrder") int fromOrder,
+                   @Param("toOrder") int toOrder,
+                   @Param("delta") int delta);
+
+    /** RoutePlace 한 건의 위치 변경 */
+    @Modifying
+    @Query("UPDATE RoutePlace rp SET rp.dayIndex = :dayIndex, rp.orderIndex = :orderIndex WHERE rp.id = :id AND rp.route.id = :routeId")
+    int updatePosition(@Param("routeId") Long routeId,
+                       @Param("id") Long id,
+                       @Param("dayIndex") int dayIndex,
+                       @Param("orderIndex") int orderIndex);
+
+    /** RoutePlace 한 건 삭제 */
+    @Modifying
+    @Query("DELETE FROM RoutePlace rp WHERE rp.id = :id AND rp.route.id = :routeId")
+    int deleteOne(@Param("routeId") Long routeId, @Param("id") Long id);
+
+    // ---------------- 일정 복제용 native 쿼리 ----------------
+
+    /** 일정의 RoutePlace 개수 */
+    @Query("SELECT COUNT(rp) FROM RoutePlace rp WHERE rp.route.id = :routeId")
+    int countByRouteId(@Param("routeId") Long routeId);
+
+    /**
+     * SEQ_ROUTE_PLACE_ID 값 하나 할당
+     * 시퀀스가 INCREMENT BY 50 이므로 값 v 하나가 id 블록 [v - 49, v] 를 뜻한다. (Hibernate pooled 할당과 동일)
+     * 단, 새 시퀀스의 첫 값(START WITH 1)은 블록이 아니므로 호출한 쪽에서 건너뛴다. (RouteService.allocateIdBlocks)
+     */
+    @Query(value = "SELECT SEQ_ROUTE_PLACE_ID.NEXTVAL FROM dual", nativeQuery = true)
+    long allocateIdBlock();
+
+    /**
+     * 원본 일정의 RoutePlace 중 방문 순서 fromRow ~ fromRow + blockSize - 1 번째를
+     * 새 일정으로 INSERT ... SELECT 복사 (id 는 blockEnd 블록에서 순서대로 부여)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO route_place (id, route_id, place_id, place_name, day_index, order_index)
+        SELECT :blockEnd - :blockSize + rn - :fromRow + 1, :targetRouteId,
+               place_id, place_name, day_index, order_index
+        FROM (SELECT rp.place_id, rp.place_name, rp.day_index, rp.order_index,
+                     ROW_NUMBER() OVER (ORDER BY rp.day_index, rp.order_index, rp.id) AS rn
+              FROM route_place rp
+              WHERE rp.route_id = :sourceRouteId)
+        WHERE rn BETWEEN :fromRow AND :fromRow + :blockSize - 1
+    """, nativeQuery = true)
+    int copyPlaces(@Param("sourceRouteId") Long sourceRouteId,
+                   @Param("targetRouteId") Long targetRouteId,
+                   @Param("fromRow") int fromRow,
+                   @Param("blockEnd") long blockEnd,
+                   @Param("blockSize") int blockSize);
 }
@@ -1,8 +1,17 @@
 package com.example.project.route.repository;
 
 import com.example.project.route.domain.Route;
+import com.example.project.route.domain.RouteSummary;
+import com.example.project.route.dto.RouteListItemDto;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,4 +24,86 @@ public interface RouteRepository extends JpaRepository<Route, Long> {
      * TravelUser의 PK는 Integer라서 Integer 타입을 사용한다.
      */
     List<Route> findAllByUser_Id(Integer memberId);
+
+    /**
+     * 일정 작성자 확인 (공동 편집방 입장 시)
+     */
+    boolean existsByIdAndUser_Id(Long id, Integer memberId);
+
+    /**
+     * 특정 회원의 일정 목록 (목록 화면용 컬럼만, 쿼리 1번)
+     *
+     *  - 첫 번째 장소: dayIndex, orderIndex 가 가장 앞선 RoutePlace (NOT EXISTS 로 판별)
+     *  - 대표 사진: 첫 번째 장소의 0번 사진 참조값 (상관 서브쿼리, Place.photoReferences 의 photo_order)
+     *  - 요약(장소 수, 거리, 이동 시간): Route 에 미리 계산해 둔 값
+     *  - 페이지: route id 기준 keyset (afterId 보다 큰 id 부터 pageable.size 개)
+     */
+    @Query("""
+        SELECT new com.example.project.route.dto.RouteListItemDto(
+                   r.id, r.title, r.startDate, r.endDate, r.totalDays,
+                   COALESCE(rp.placeName, '장소 없음'),
+                   (SELECT ph FROM Place p JOIN p.photoReferences ph WHERE p.id = rp.place.id AND INDEX(ph) = 0),
+                   r.summary.stopCount, r.summary.distanceMeters, r.summary.travelMinutes,
+                   COALESCE(r.likeCount, 0L))
+        FROM Route r
+        LEFT JOIN RoutePlace rp ON rp.route = r
+        WHERE r.user.id = :memberId
+          AND r.id > :afterId
+          AND (rp.id IS NULL OR NOT EXISTS (
+                SELECT 1 FROM RoutePlace rp2
+                WHERE rp2.route = r
+                  AND (rp2.dayIndex < rp.dayIndex
+                       OR (rp2.dayIndex = rp.dayIndex AND rp2.orderIndex < rp.orderIndex)
+                       OR (rp2.dayIndex = rp.dayIndex AND rp2.orderIndex = rp.orderIndex AND rp2.id < rp.id))))
+        ORDER BY r.id ASC
+    """)
+    List<RouteListItemDto> findListItemsByMember(@Param("memberId") Integer memberId,
+                                                 @Param("afterId") Long afterId,
+                                                 Pageable pageable);
+
+    /**
+     * id 목록에 해당하는 일정 목록 정보 (쿼리 1번, 순서는 호출한 쪽에서 맞춘다)
+     * 인기 일정 피드처럼 id 가 먼저 정해지는 목록에 사용
+     */
+    @Query("""
+        SELECT new com.example.project.route.dto.RouteListItemDto(
+                   r.id, r.title, r.startDate, r.endDate, r.totalDays,
+                   COALESCE(rp.placeName, '장소 없음'),
+                   (SELECT ph FROM Place p JOIN p.photoReferences ph WHERE p.id = rp.place.id AND INDEX(ph) = 0),
+                   r.summary.stopCount, r.summary.distanceMeters, r.summary.travelMinutes,
+                   COALESCE(r.likeCount, 0L))
+        FROM Route r
+        LEFT JOIN RoutePlace rp ON rp.route = r
+        WHERE r.id IN :ids
+          AND (rp.id IS NULL OR NOT EXISTS (
+                SELECT 1 FROM RoutePlace rp2
+                WHERE rp2.route = r
+                  AND (rp2.dayIndex < rp.dayIndex
+                       OR (rp2.dayIndex = rp.dayIndex AND rp2.orderIndex < rp.orderIndex)
+                       OR (rp2.dayIndex = rp.dayIndex AND rp2.orderIndex = rp.orderIndex AND rp2.id < rp.id))))
+    """)
+    List<RouteListItemDto> findListItemsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 요약 컬럼만 갱신 (RouteSummaryService)
+     * 엔티티 dirty checking 은 route 행 전체를 다시 쓰므로, 요약 계산 중 커밋된 제목·날짜 변경을 되돌리지 않도록 분리
+     */
+    @Modifying
+    @Query("""
+        UPDATE Route r
+        SET r.summary.stopCount = :#{#s.stopCount},
+            r.summary.distanceMeters = :#{#s.distanceMeters},
+            r.summary.travelMinutes = :#{#s.travelMinutes},
+            r.summary.minLat = :#{#s.minLat},
+            r.summary.minLng = :#{#s.minLng},
+            r.summary.maxLat = :#{#s.maxLat},
+            r.summary.maxLng = :#{#s.maxLng},
+            r.summary.centerLat = :#{#s.centerLat},
+            r.summary.centerLng = :#{#s.centerLng},
+            r.summaryUpdatedAt = :updatedAt
+        WHERE r.id = :id
+    """)
+    int updateSummary(@Param("id") Long id,
+                      @Param("s") RouteSummary summary,
+                      @Param("updatedAt") LocalDateTime updatedAt);
 }
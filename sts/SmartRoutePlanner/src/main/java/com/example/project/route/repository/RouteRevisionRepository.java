@@ -0,0 +1,39 @@
+package com.example.project.route.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.project.route.domain.RouteRevision;
+import com.example.project.route.dto.RouteRevisionDto;
+
+public interface RouteRevisionRepository extends JpaRepository<RouteRevision, Long> {
+
+    /**
+     * version 을 복원하는 데 필요한 이력
+     * (version 이하의 마지막 FULL 부터 version 까지, 버전 오름차순)
+     */
+    @Query("SELECT r FROM RouteRevision r "
+            + "WHERE r.routeId = :routeId AND r.version <= :version "
+            + "AND r.version >= (SELECT MAX(c.version) FROM RouteRevision c "
+            + "                  WHERE c.routeId = :routeId AND c.kind = :full AND c.version <= :version) "
+            + "ORDER BY r.version ASC")
+    List<RouteRevision> findChain(@Param("routeId") Long routeId,
+                                  @Param("version") int version,
+                                  @Param("full") RouteRevision.Kind full);
+
+    /**
+     * 버전 목록 (최신 순, payload 제외)
+     */
+    @Query("SELECT new com.example.project.route.dto.RouteRevisionDto(r.version, r.kind, r.title, r.totalDays, r.createdAt) "
+            + "FROM RouteRevision r WHERE r.routeId = :routeId ORDER BY r.version DESC")
+    List<RouteRevisionDto> findHistory(@Param("routeId") Long routeId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM RouteRevision r WHERE r.routeId = :routeId")
+    int deleteByRouteId(@Param("routeId") Long routeId);
+}
@@ -0,0 +1,11 @@
+package com.example.project.route.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.project.route.domain.RouteTrendingScore;
+
+/**
+ * 인기 일정 점수 체크포인트 Repository
+ */
+public interface RouteTrendingScoreRepository extends JpaRepository<RouteTrendingScore, Long> {
+}
@@ -0,0 +1,100 @@
+package com.example.project.route.service;
+
+import com.example.project.route.dto.RouteGenerateJobDto;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.Getter;
+
+/**
+ * GenerationJob
+ * ---------------------------------------
+ * AI 일정 생성 작업 1건의 상태 (메모리).
+ * 상태 변경은 작업 스레드가, 조회는 요청 스레드가 하므로 필드는 volatile.
+ */
+@Getter
+public class GenerationJob {
+
+    public enum Status {
+        QUEUED, RUNNING, DONE, FAILED
+    }
+
+    private final String id;
+    private final Integer memberId;
+    private final long createdAt = System.currentTimeMillis();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String stage = "QUEUED";
+    private volatile int progress;
+    private volatile String detail;
+
+    private volatile long startedAt;
+    private volatile long finishedAt;
+
+    private volatile JsonNode result;
+    private volatile String error;
+
+    GenerationJob(String id, Integer memberId) {
+        this.id = id;
+        this.memberId = memberId;
+    }
+
+    void start() {
+        startedAt = System.currentTimeMillis();
+        status = Status.RUNNING;
+        advance("STARTED", 5);
+    }
+
+    void advance(String stage, int progress) {
+        advance(stage, progress, null);
+    }
+
+    void advance(String stage, int progress, String detail) {
+        this.stage = stage;
+        this.progress = progress;
+        this.detail = detail;
+    }
+
+    void complete(JsonNode result) {
+        this.result = result;
+        finishedAt = System.currentTimeMillis();
+        advance("DONE", 100);
+        status = Status.DONE;
+    }
+
+    void fail(String error) {
+        this.error = error;
+        finishedAt = System.currentTimeMillis();
+        stage = "FAILED";
+        status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+
+    /** 대기 시간 (아직 시작 전이면 지금까지 기다린 시간) */
+    public long waitMillis() {
+        return (startedAt > 0 ? startedAt : System.currentTimeMillis()) - createdAt;
+    }
+
+    /** 실행 시간 (시작 전이면 0) */
+    public long runMillis() {
+        if (startedAt == 0) {
+            return 0;
+        }
+        return (finishedAt > 0 ? finishedAt : System.currentTimeMillis()) - startedAt;
+    }
+
+    public RouteGenerateJobDto toDto() {
+        return new RouteGenerateJobDto(
+                id,
+                status.name(),
+                stage,
+                progress,
+                detail,
+                waitMillis(),
+                startedAt > 0 ? runMillis() : null,
+                result,
+                error);
+    }
+}
@@ -0,0 +1,407 @@
+package com.example.project.route.service;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import com.example.project.global.maps.LatLngDto;
+import com.example.project.global.maps.RouteLegResultDto;
+import com.example.project.global.maps.RouteStepsBatchService;
+import com.example.project.route.dto.PlaceSummaryDto;
+import com.example.project.route.dto.RouteDetailResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RouteBundleService
+ * ---------------------------------------
+ * 오프라인용 일정 번들(바이너리, gzip) 생성 및 보관.
+ *
+ * 번들 형식 (FORMAT_VERSION = 1, gzip 안의 DataOutputStream, big-endian):
+ *  - magic "SRPB", version(u8)
+ *  - title(str), startDate(int, epochDay, 없으면 -1), endDate(int), totalDays(int)
+ *  - placeCount(int) × [placeId(long), name(str), address(str), lat(int, E6), lng(int, E6),
+ *                        rating(float), photoReference(str)]   ← 같은 장소는 한 번만
+ *  - dayCount(int) × [stopCount(int) × placeIndex(int)]          ← 장소 표의 위치
+ *  - dayCount    × [legCount(int) × encodedPolyline(str)]         ← 단순화·병합된 구간 경로 (실패한 구간은 "")
+ *  - str = 길이(int) + UTF-8 바이트
+ *
+ * 보관:
+ *  - 파일 이름 {routeId}-{키}.srpb.gz → 번들에 담기는 내용이 바뀔 때만 이름이 바뀌므로 버전별로 한 번만 생성
+ *  - 키 = MD5(FORMAT_VERSION, travel-mode, simplify-meters, 상세 응답에서 요약(summary, daySummaries)을 뺀 값)
+ *    (형식이나 구간 설정이 바뀌면 다른 파일이 됨. 요약은 편집 후 백그라운드에서 다시 계산되므로,
+ *     포함하면 편집 한 번에 번들을 두 번 만들게 됨)
+ *  - 같은 일정의 동시 생성은 한 번만 수행하고 나머지 요청은 그 결과를 기다림 (다른 일정은 기다리지 않음)
+ *  - 일정별 현재 키를 메모리에 두고, 현재 키가 아닌 파일은 현재 키가 정해진 뒤 keep-previous-minutes 가 지나면 삭제
+ *    → 이전 경로를 받은 요청이 파일을 열기 전에 지워져 실패하지 않음
+ *    → 파일 시각이 아니라 현재 키로 판단하므로 A→B→A 로 되돌린 뒤에도 현재 파일(A)을 지우지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RouteBundleService {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte[] MAGIC = { 'S', 'R', 'P', 'B' };
+    private static final String SUFFIX = ".srpb.gz";
+
+    /** 요약 필드 (번들에 담지 않으므로 내용 MD5 에서 제외) */
+    private static final String[] DERIVED_FIELDS = { "summary", "daySummaries" };
+
+    private final RouteService routeService;
+    private final RouteDetailCache routeDetailCache;
+    private final RouteStepsBatchService routeStepsBatchService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${route.bundle.dir:${java.io.tmpdir}/route-bundles}")
+    private String bundleDir;
+
+    @Value("${route.bundle.travel-mode:WALK}")
+    private String travelMode;
+
+    @Value("${route.bundle.simplify-meters:5}")
+    private double simplifyMeters;
+
+    @Value("${route.bundle.keep-previous-minutes:10}")
+    private long keepPreviousMinutes;
+
+    /** 생성 중인 번들 (일정별 한 작업) */
+    private final Map<Long, CompletableFuture<Bundle>> building = new ConcurrentHashMap<>();
+
+    /** routeId → [상세 응답 ETag, 키] (상세 ETag 가 같으면 키를 다시 계산하지 않음) */
+    private final Map<Long, String[]> contentKeys = new ConcurrentHashMap<>();
+
+    /** routeId → 현재 키와 그 키가 현재가 된 시각 (삭제된 일정은 key == null) */
+    private final Map<Long, Current> current = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 버전의 번들 파일 (없으면 생성)
+     */
+    public Bundle getBundle(Long routeId) throws IOException {
+
+        RouteDetailCache.CachedDetail cached =
+                routeDetailCache.getOrLoad(routeId, () -> routeService.getRouteDetail(routeId));
+
+        String key = contentKey(routeId, cached);
+        markCurrent(routeId, key);   // 정리 작업이 이 파일을 지우지 않도록 존재 확인 전에 기록
+        Path file = bundlePath(routeId, key);
+        if (Files.exists(file)) {
+            return new Bundle(file, bundleEtag(key));
+        }
+
+        CompletableFuture<Bundle> mine = new CompletableFuture<>();
+        CompletableFuture<Bundle> running = building.putIfAbsent(routeId, mine);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            // 캐시 확인 뒤 일정이 바뀌었을 수 있으므로 실제로 담는 내용 기준으로 이름을 다시 정함
+            RouteDetailResponseDto detail = routeService.getRouteDetail(routeId);
+            String etag = contentKey(objectMapper.writeValueAsBytes(detail));
+            markCurrent(routeId, etag);
+            Path target = bundlePath(routeId, etag);
+
+            if (!Files.exists(target)) {
+                write(detail, target);
+            }
+            Bundle bundle = new Bundle(target, bundleEtag(etag));
+            mine.complete(bundle);
+            return bundle;
+
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            building.remove(routeId, mine);
+        }
+    }
+
+    private static Bundle await(CompletableFuture<Bundle> running) throws IOException {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    // ============================================================
+    // 키 (형식·구간 설정 + 요약 필드를 뺀 내용)
+    // ============================================================
+
+    private String contentKey(Long routeId, RouteDetailCache.CachedDetail cached) throws IOException {
+        String[] memo = contentKeys.get(routeId);
+        if (memo != null && memo[0].equals(cached.getEtag())) {
+            return memo[1];
+        }
+        String key = contentKey(cached.getBody());
+        contentKeys.put(routeId, new String[] { cached.getEtag(), key });
+        return key;
+    }
+
+    /** 형식·구간 설정 + 상세 응답 JSON 에서 요약 필드를 뺀 값의 MD5 */
+    private String contentKey(byte[] detailJson) throws IOException {
+        JsonNode tree = objectMapper.readTree(detailJson);
+        if (tree instanceof ObjectNode object) {
+            object.remove(List.of(DERIVED_FIELDS));
+        }
+        String params = FORMAT_VERSION + "|" + travelMode + "|" + simplifyMeters + "|";
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        buffer.write(params.getBytes(StandardCharsets.UTF_8));
+        objectMapper.writeValue(buffer, tree);
+        return DigestUtils.md5DigestAsHex(buffer.toByteArray());
+    }
+
+    // ============================================================
+    // 번들 쓰기
+    // ============================================================
+
+    private void write(RouteDetailResponseDto detail, Path target) throws IOException {
+
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "bundle-", ".tmp");
+
+        try {
+            try (OutputStream file = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(
+                         new BufferedOutputStream(new GZIPOutputStream(file)))) {
+                writeBundle(detail, out);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void writeBundle(RouteDetailResponseDto detail, DataOutputStream out) throws IOException {
+
+        out.write(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+
+        writeString(out, detail.getTitle());
+        out.writeInt(detail.getStartDate() != null ? (int) detail.getStartDate().toEpochDay() : -1);
+        out.writeInt(detail.getEndDate() != null ? (int) detail.getEndDate().toEpochDay() : -1);
+        out.writeInt(detail.getPlaces().size());
+
+        // 1) 장소 표 (같은 장소가 여러 번 나와도 한 번만)
+        Map<Long, Integer> placeIndex = new HashMap<>();
+        List<PlaceSummaryDto> places = new ArrayList<>();
+        for (List<PlaceSummaryDto> day : detail.getPlaces()) {
+            for (PlaceSummaryDto place : day) {
+                if (placeIndex.putIfAbsent(place.getId(), places.size()) == null) {
+                    places.add(place);
+                }
+            }
+        }
+
+        out.writeInt(places.size());
+        for (PlaceSummaryDto place : places) {
+            out.writeLong(place.getId());
+            writeString(out, place.getName());
+            writeString(out, place.getFormattedAddress());
+            out.writeInt((int) Math.round(place.getLat() * 1e6));
+            out.writeInt((int) Math.round(place.getLng() * 1e6));
+            out.writeFloat((float) place.getRating());
+            List<String> photos = place.getPhotoReferences();
+            writeString(out, photos != null && !photos.isEmpty() ? photos.get(0) : null);
+        }
+
+        // 2) 일차별 방문 순서
+        out.writeInt(detail.getPlaces().size());
+        for (List<PlaceSummaryDto> day : detail.getPlaces()) {
+            out.writeInt(day.size());
+            for (PlaceSummaryDto place : day) {
+                out.writeInt(placeIndex.get(place.getId()));
+            }
+        }
+
+        // 3) 일차별 구간 경로 (단순화 + leg 단위 병합)
+        for (List<PlaceSummaryDto> day : detail.getPlaces()) {
+            if (day.size() < 2) {
+                out.writeInt(0);
+                continue;
+            }
+
+            List<LatLngDto> stops = new ArrayList<>(day.size());
+            for (PlaceSummaryDto place : day) {
+                stops.add(new LatLngDto(place.getLat(), place.getLng()));
+            }
+
+            List<RouteLegResultDto> legs =
+                    routeStepsBatchService.computeLegs(stops, travelMode, "ko-KR", simplifyMeters, true);
+
+            out.writeInt(legs.size());
+            for (RouteLegResultDto leg : legs) {
+                writeString(out, RouteLegResultDto.OK.equals(leg.getStatus()) ? mergedPolyline(leg.getBody()) : null);
+            }
+        }
+    }
+
+    /** 병합된 응답에서 routes[0].legs[0].polyline.encodedPolyline */
+    private String mergedPolyline(String body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            JsonNode encoded = objectMapper.readTree(body)
+                    .path("routes").path(0).path("legs").path(0).path("polyline").path("encodedPolyline");
+            return encoded.isTextual() ? encoded.asText() : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // ============================================================
+    // 파일 관리
+    // ============================================================
+
+    private Path bundlePath(Long routeId, String key) {
+        return Paths.get(bundleDir).resolve(routeId + "-" + key + SUFFIX);
+    }
+
+    /**
+     * 이전 버전 정리: 일정별 현재 키(current)가 아닌 파일을,
+     * 현재 키가 정해진 지 keep-previous-minutes 가 지났을 때 삭제.
+     * 현재 키를 모르는 일정(재시작 뒤 아직 요청되지 않은 일정)의 파일은 건드리지 않음.
+     */
+    @Scheduled(fixedDelayString = "${route.bundle.cleanup-ms:60000}")
+    public void deletePreviousVersions() {
+
+        Path dir = Paths.get(bundleDir);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+
+        Map<Long, List<Path>> byRoute = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                int dash = name.indexOf('-');
+                if (dash > 0) {
+                    try {
+                        byRoute.computeIfAbsent(Long.valueOf(name.substring(0, dash)), k -> new ArrayList<>()).add(file);
+                    } catch (NumberFormatException e) {
+                        // 번들 파일 이름이 아님
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("번들 디렉터리 조회 실패 dir={}", dir, e);
+            return;
+        }
+
+        long cutoff = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(keepPreviousMinutes);
+        byRoute.forEach((routeId, versions) ->
+                // 같은 일정의 markCurrent 와 겹치지 않도록 항목 잠금 안에서 판단·삭제
+                current.computeIfPresent(routeId, (id, cur) -> {
+                    if (cur.since > cutoff) {
+                        return cur;
+                    }
+                    Path keep = cur.key != null ? bundlePath(routeId, cur.key) : null;
+                    for (Path file : versions) {
+                        if (!file.equals(keep)) {
+                            try {
+                                Files.deleteIfExists(file);
+                            } catch (IOException e) {
+                                log.warn("이전 번들 삭제 실패 file={}", file, e);
+                            }
+                        }
+                    }
+                    return cur.key != null ? cur : null;   // 삭제된 일정은 정리 후 항목 제거
+                }));
+
+        // 파일이 하나도 없던 삭제된 일정
+        current.values().removeIf(cur -> cur.key == null && cur.since <= cutoff);
+    }
+
+    /** 일정 삭제 커밋 후: keep-previous-minutes 뒤에 모든 버전 삭제 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRouteChanged(RouteChangedEvent event) {
+        if (event.getType() == RouteChangedEvent.Type.DELETED) {
+            contentKeys.remove(event.getRouteId());
+            current.put(event.getRouteId(), new Current(null, System.currentTimeMillis()));
+        }
+    }
+
+    /** 일정의 현재 키 기록 (키가 바뀔 때만 시각 갱신) */
+    private void markCurrent(Long routeId, String key) {
+        current.compute(routeId, (id, cur) ->
+                cur != null && key.equals(cur.key) ? cur : new Current(key, System.currentTimeMillis()));
+    }
+
+    private static String bundleEtag(String key) {
+        return "\"b" + FORMAT_VERSION + "-" + key + "\"";
+    }
+
+    /** 일정의 현재 키 */
+    private static final class Current {
+        final String key;
+        final long since;
+
+        Current(String key, long since) {
+            this.key = key;
+            this.since = since;
+        }
+    }
+
+    /** 번들 파일 + ETag */
+    public static final class Bundle {
+        private final Path path;
+        private final String etag;
+
+        private Bundle(Path path, String etag) {
+            this.path = path;
+            this.etag = etag;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
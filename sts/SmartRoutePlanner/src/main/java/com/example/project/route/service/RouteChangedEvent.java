@@ -0,0 +1,22 @@
+package com.example.project.route.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * RouteChangedEvent
+ * ---------------------------------------
+ * 일정(Route)이 생성/수정/삭제되었음을 알리는 이벤트.
+ * RouteService 가 발행하고, 캐시·인덱스 등은 커밋 이후(AFTER_COMMIT)에 받아서 갱신한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class RouteChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Long routeId;
+    private final Type type;
+}
@@ -0,0 +1,152 @@
+package com.example.project.route.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import com.example.project.route.dto.RouteDetailResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * RouteDetailCache
+ * ---------------------------------------
+ * 일정 상세 응답(JSON 직렬화 결과)을 보관하는 캐시.
+ *
+ * 버전:
+ *  - 일정 id 를 VERSION_STRIPES 칸으로 나눈 칸마다 버전 번호를 두고, 생성/수정/삭제가 커밋되면 그 칸의 버전을 올린다.
+ *    (일정마다 두면 한 번이라도 바뀐 일정 수만큼 계속 늘어나므로 고정 크기로 둠.
+ *     같은 칸의 다른 일정이 바뀌면 캐시 항목을 한 번 더 만들 뿐 결과는 같음)
+ *  - 캐시 항목은 만들 당시의 버전과 현재 버전이 같을 때만 사용한다.
+ *  - 조회 도중 수정이 커밋되면 (조회 시작 버전 ≠ 현재 버전) 결과를 저장하지 않는다.
+ *
+ * ETag:
+ *  - 직렬화된 본문의 MD5 값. 재시작 후에도 같은 내용이면 같은 ETag 가 나온다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteDetailCache {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${route.detail-cache.max-size:1000}")
+    private int maxSize;
+
+    private static final int VERSION_STRIPES = 4096;
+
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    private final Map<Long, CachedDetail> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedDetail> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    /**
+     * 캐시된 상세 응답을 반환하고, 없으면 loader 로 만들어 저장한다.
+     */
+    public CachedDetail getOrLoad(Long routeId, Supplier<RouteDetailResponseDto> loader) {
+
+        long version = currentVersion(routeId);
+
+        synchronized (entries) {
+            CachedDetail cached = entries.get(routeId);
+            if (cached != null && cached.version == version) {
+                return cached;
+            }
+        }
+
+        CachedDetail loaded = serialize(version, loader.get());
+
+        synchronized (entries) {
+            if (currentVersion(routeId) == version) {
+                entries.put(routeId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 일정 변경 커밋 후 버전 증가 + 캐시 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRouteChanged(RouteChangedEvent event) {
+        invalidate(event.getRouteId());
+    }
+
+    public void invalidate(Long routeId) {
+        versions.incrementAndGet(stripe(routeId));
+        synchronized (entries) {
+            entries.remove(routeId);
+        }
+    }
+
+    private long currentVersion(Long routeId) {
+        return versions.get(stripe(routeId));
+    }
+
+    private static int stripe(Long routeId) {
+        return (int) (routeId & (VERSION_STRIPES - 1));
+    }
+
+    private CachedDetail serialize(long version, RouteDetailResponseDto dto) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(dto);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return new CachedDetail(version, body, etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("일정 상세 직렬화 실패 routeId=" + dto.getRouteId(), e);
+        }
+    }
+
+    /**
+     * If-None-Match 헤더가 현재 ETag 와 일치하는지 확인
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || tag.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 직렬화된 상세 응답 + ETag
+     */
+    public static final class CachedDetail {
+        private final long version;
+        private final byte[] body;
+        private final String etag;
+
+        private CachedDetail(long version, byte[] body, String etag) {
+            this.version = version;
+            this.body = body;
+            this.etag = etag;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
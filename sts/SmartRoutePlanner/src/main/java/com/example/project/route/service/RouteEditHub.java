@@ -0,0 +1,267 @@
+package com.example.project.route.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import com.example.project.route.dto.RouteEditEventDto;
+import com.example.project.route.dto.RouteEditMessageDto;
+import com.example.project.route.dto.RoutePatchRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RouteEditHub
+ * ---------------------------------------
+ * 일정 공동 편집방(일정 1개 = 방 1개) 관리와 편집 연산 반영 / 전파 (메모리 pub/sub).
+ *
+ * 순서:
+ *  - 방마다 들어온 연산을 큐에 쌓고, 한 번에 한 작업(drain)만 routeEditExecutor 에서 꺼내 반영
+ *  - 반영된 연산에만 방의 seq 를 1씩 붙임 → 모든 편집자가 같은 순서로 연산을 받음
+ *
+ * 반영 (micro-batch):
+ *  - 큐에 쌓인 연산을 최대 batch-size 개씩 patchRoute 한 번(트랜잭션 1개)으로 반영
+ *  - 묶음이 실패하면 하나씩 다시 반영해 실패한 연산만 error 로 돌려줌
+ *
+ * 전파:
+ *  - 보낸 사람에게는 ack, 나머지 편집자에게는 연산(op)만 보냄 (일정 전체를 다시 보내지 않음)
+ *  - INSERT 는 ack / op 모두에 새 routePlaceId 를 담음 (이후 MOVE / REMOVE 가 가리킬 수 있도록)
+ *  - 세션은 ConcurrentWebSocketSessionDecorator 로 감싸 느린 클라이언트가 다른 전송을 막지 않게 함
+ *    (버퍼/시간 한도를 넘으면 그 세션만 끊김)
+ *  - 연결마다 스레드를 두지 않음: 수신은 컨테이너 NIO, 반영/전파는 공용 executor
+ */
+@Slf4j
+@Service
+public class RouteEditHub {
+
+    private static final int SEND_TIME_LIMIT_MS = 5000;
+    private static final int SEND_BUFFER_LIMIT = 512 * 1024;
+
+    private final RouteService routeService;
+    private final ThreadPoolTaskExecutor routeEditExecutor;
+    private final ObjectMapper objectMapper;
+
+    /** 일정 id → 편집방 */
+    private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
+
+    @Value("${route.edit.batch-size:50}")
+    private int batchSize;
+
+    public RouteEditHub(RouteService routeService,
+                        @Qualifier("routeEditExecutor") ThreadPoolTaskExecutor routeEditExecutor,
+                        ObjectMapper objectMapper) {
+        this.routeService = routeService;
+        this.routeEditExecutor = routeEditExecutor;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 편집방 입장 → 현재 seq 전송
+     */
+    public WebSocketSession join(Long routeId, WebSocketSession session) {
+
+        WebSocketSession decorated =
+                new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT);
+
+        Room room = rooms.compute(routeId, (k, r) -> {
+            Room target = r != null ? r : new Room(routeId);
+            target.sessions.add(decorated);
+            return target;
+        });
+
+        send(decorated, RouteEditEventDto.hello(room.seq));
+        return decorated;
+    }
+
+    /**
+     * 편집방 퇴장 (남은 편집자와 대기 연산이 없으면 방 제거)
+     */
+    public void leave(Long routeId, WebSocketSession session) {
+        rooms.computeIfPresent(routeId, (k, room) -> {
+            room.sessions.remove(session);
+            return room.isIdle() ? null : room;
+        });
+    }
+
+    /**
+     * 편집 연산 접수 (반영은 비동기)
+     */
+    public void submit(Long routeId, WebSocketSession session, Integer memberId, RouteEditMessageDto message) {
+
+        Room room = rooms.get(routeId);
+        if (room == null || message.getOp() == null || message.getOp().getType() == null) {
+            send(session, RouteEditEventDto.error(message.getClientOpId(), "잘못된 편집 연산입니다."));
+            return;
+        }
+
+        room.queue.add(new PendingOp(session, memberId, message));
+        if (room.draining.compareAndSet(false, true)) {
+            routeEditExecutor.execute(() -> drain(room));
+        }
+    }
+
+    // ============================================================
+    // 반영 / 전파
+    // ============================================================
+
+    private void drain(Room room) {
+        try {
+            while (true) {
+                List<PendingOp> batch = new ArrayList<>(batchSize);
+                PendingOp next;
+                while (batch.size() < batchSize && (next = room.queue.poll()) != null) {
+                    batch.add(next);
+                }
+                if (batch.isEmpty()) {
+                    room.draining.set(false);
+                    // 플래그를 내린 사이에 들어온 연산이 있으면 이 스레드가 이어서 처리
+                    if (room.queue.isEmpty() || !room.draining.compareAndSet(false, true)) {
+                        break;
+                    }
+                    continue;
+                }
+                apply(room, batch);
+            }
+        } catch (RuntimeException e) {
+            room.draining.set(false);
+            log.warn("일정 편집 반영 중단 routeId={}", room.routeId, e);
+        } finally {
+            // 반영 중에 모두 나갔으면 여기서 방 제거
+            rooms.computeIfPresent(room.routeId, (k, r) -> r == room && r.isIdle() ? null : r);
+        }
+    }
+
+    private void apply(Room room, List<PendingOp> batch) {
+
+        try {
+            List<Long> created = routeService.patchRoute(room.routeId, toPatch(batch));
+            for (int i = 0; i < batch.size(); i++) {
+                publish(room, batch.get(i), created.get(i));
+            }
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                reject(batch.get(0), e);
+                return;
+            }
+            log.debug("일정 편집 묶음 반영 실패, 하나씩 다시 반영 routeId={}", room.routeId, e);
+        }
+
+        for (PendingOp op : batch) {
+            try {
+                List<Long> created = routeService.patchRoute(room.routeId, toPatch(List.of(op)));
+                publish(room, op, created.get(0));
+            } catch (RuntimeException e) {
+                reject(op, e);
+            }
+        }
+    }
+
+    private void publish(Room room, PendingOp op, Long routePlaceId) {
+
+        long seq = ++room.seq;   // drain 스레드만 증가시킴
+
+        send(op.session, RouteEditEventDto.ack(seq, op.message.getClientOpId(), routePlaceId));
+
+        String payload = toJson(RouteEditEventDto.op(seq, op.memberId, op.message.getOp(), routePlaceId));
+        if (payload == null) {
+            return;
+        }
+        TextMessage message = new TextMessage(payload);
+        for (WebSocketSession session : room.sessions) {
+            if (session != op.session) {
+                sendRaw(session, message);
+            }
+        }
+    }
+
+    private void reject(PendingOp op, RuntimeException e) {
+        send(op.session, RouteEditEventDto.error(op.message.getClientOpId(), e.getMessage()));
+    }
+
+    private static RoutePatchRequestDto toPatch(List<PendingOp> ops) {
+        List<RoutePatchRequestDto.Operation> operations = new ArrayList<>(ops.size());
+        for (PendingOp op : ops) {
+            operations.add(op.message.getOp());
+        }
+        RoutePatchRequestDto dto = new RoutePatchRequestDto();
+        dto.setOperations(operations);
+        return dto;
+    }
+
+    private void send(WebSocketSession session, RouteEditEventDto event) {
+        String payload = toJson(event);
+        if (payload != null) {
+            sendRaw(session, new TextMessage(payload));
+        }
+    }
+
+    private static void sendRaw(WebSocketSession session, TextMessage message) {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            session.sendMessage(message);
+        } catch (IOException | IllegalStateException e) {
+            // 전송 한도 초과 / 끊긴 연결 → 해당 세션만 정리 (afterConnectionClosed 에서 퇴장 처리)
+            log.debug("편집 메시지 전송 실패 sessionId={}", session.getId());
+        }
+    }
+
+    private String toJson(RouteEditEventDto event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.warn("편집 메시지 직렬화 실패", e);
+            return null;
+        }
+    }
+
+    /** 편집방 */
+    private static final class Room {
+        final Long routeId;
+        final Set<WebSocketSession> sessions = ConcurrentHashMap.newKeySet();
+        final Queue<PendingOp> queue = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        /** 마지막으로 반영된 연산 번호 (drain 스레드만 쓰기) */
+        volatile long seq;
+
+        Room(Long routeId) {
+            this.routeId = routeId;
+        }
+
+        boolean isIdle() {
+            return sessions.isEmpty() && queue.isEmpty() && !draining.get();
+        }
+    }
+
+    /** 반영 대기 중인 연산 */
+    private static final class PendingOp {
+        final WebSocketSession session;
+        final Integer memberId;
+        final RouteEditMessageDto message;
+
+        PendingOp(WebSocketSession session, Integer memberId, RouteEditMessageDto message) {
+            this.session = session;
+            this.memberId = memberId;
+            this.message = message;
+        }
+    }
+}
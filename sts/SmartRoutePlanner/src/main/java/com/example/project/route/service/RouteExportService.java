@@ -0,0 +1,330 @@
+package com.example.project.route.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+
+import com.example.project.global.exception.RouteNotFoundException;
+import com.example.project.global.maps.PointBuffer;
+import com.example.project.global.maps.RoutePolylineTransformer;
+import com.example.project.global.maps.RouteStepsService;
+import com.example.project.route.domain.Route;
+import com.example.project.route.dto.RouteExportPoint;
+import com.example.project.route.repository.RoutePlaceRepository;
+import com.example.project.route.repository.RouteRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * RouteExportService
+ * ---------------------------------------
+ * 일정을 GPX / KML 로 내보낸다. (내비게이션 앱 가져오기용)
+ *
+ * DB / 메모리:
+ *  - 방문 지점(좌표·이름 프로젝션)을 출력 전에 한 번에 읽고 트랜잭션을 끝냄
+ *    → 구간 조회(Google)나 느린 클라이언트에 쓰는 동안 DB 커넥션을 잡고 있지 않음
+ *  - 출력은 StAX 로 바로 스트리밍 → DOM, 상세 DTO 를 만들지 않음
+ *  - 장소 목록(wpt / Placemark)과 일차별 선(rte·trk / LineString)은 XML 순서 규칙상 따로 출력
+ *
+ * legs = true:
+ *  - 로그인 회원만 (SecurityConfiguration), travelMode 는 RouteStepsService 가 허용하는 값만
+ *  - 연속된 두 장소마다 route-steps(캐시 우선)로 실제 경로 polyline 을 받아 선으로 출력
+ *  - 구간 조회에 실패하면 두 장소를 직선으로 잇는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RouteExportService {
+
+    private static final String GPX_NS = "http://www.topografix.com/GPX/1/1";
+    private static final String KML_NS = "http://www.opengis.net/kml/2.2";
+    private static final String LANGUAGE_CODE = "ko-KR";
+
+    private final RouteRepository routeRepository;
+    private final RoutePlaceRepository routePlaceRepository;
+    private final RouteStepsService routeStepsService;
+    private final RoutePolylineTransformer routePolylineTransformer;
+
+    private final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newInstance();
+
+    public enum Format {
+        GPX("gpx", MediaType.parseMediaType("application/gpx+xml")),
+        KML("kml", MediaType.parseMediaType("application/vnd.google-earth.kml+xml"));
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다. format=" + value);
+        }
+    }
+
+    /**
+     * 내보낼 일정 제목 (일정이 없으면 예외 → 스트리밍 시작 전에 오류 응답)
+     */
+    public String getTitle(Long routeId) {
+        Route route = routeRepository.findById(routeId)
+                .orElseThrow(RouteNotFoundException::new);
+        return route.getTitle() != null ? route.getTitle() : "route";
+    }
+
+    /**
+     * 구간 경로 옵션 확인 (스트리밍 시작 전에 오류 응답)
+     */
+    public void checkTravelMode(String travelMode) {
+        routeStepsService.checkOptions(travelMode, LANGUAGE_CODE);
+    }
+
+    /**
+     * 일정을 format 형식으로 out 에 출력
+     */
+    public void export(Long routeId, String title, Format format, boolean legs, String travelMode,
+                       OutputStream out) throws IOException {
+
+        // 여기서 트랜잭션이 끝남 (이후 구간 조회·출력은 커넥션 없이)
+        List<RouteExportPoint> points = routePlaceRepository.findExportPoints(routeId);
+
+        try {
+            XMLStreamWriter xml = xmlOutputFactory.createXMLStreamWriter(out, "UTF-8");
+            xml.writeStartDocument("UTF-8", "1.0");
+
+            if (format == Format.GPX) {
+                writeGpx(xml, points, title, legs, travelMode);
+            } else {
+                writeKml(xml, points, title, legs, travelMode);
+            }
+
+            xml.writeEndDocument();
+            xml.flush();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("일정 내보내기 실패 routeId=" + routeId, e);
+        }
+    }
+
+    // ============================================================
+    // GPX
+    // ============================================================
+
+    private void writeGpx(XMLStreamWriter xml, List<RouteExportPoint> points, String title, boolean legs, String travelMode)
+            throws XMLStreamException {
+
+        xml.writeStartElement("gpx");
+        xml.writeDefaultNamespace(GPX_NS);
+        xml.writeAttribute("version", "1.1");
+        xml.writeAttribute("creator", "SmartRoutePlanner");
+
+        xml.writeStartElement("metadata");
+        writeText(xml, "name", title);
+        xml.writeEndElement();
+
+        // 1) 장소 (wpt)
+        for (RouteExportPoint p : points) {
+            xml.writeStartElement("wpt");
+            xml.writeAttribute("lat", coord(p.getLat()));
+            xml.writeAttribute("lon", coord(p.getLng()));
+            writeText(xml, "name", p.getPlaceName());
+            writeText(xml, "desc", p.getAddress());
+            writeText(xml, "type", p.getDayIndex() + "일차 " + p.getOrderIndex() + "번째");
+            xml.writeEndElement();
+        }
+
+        // 2) 일차별 선: legs 면 실제 경로(trk), 아니면 장소를 잇는 경로(rte)
+        String lineElement = legs ? "trk" : "rte";
+        LineWriter line = (lat, lng) -> {
+            xml.writeEmptyElement(legs ? "trkpt" : "rtept");
+            xml.writeAttribute("lat", lat);
+            xml.writeAttribute("lon", lng);
+        };
+
+        writeDayLines(points, legs, travelMode, line, new DayWriter() {
+            @Override
+            public void start(int day) throws XMLStreamException {
+                xml.writeStartElement(lineElement);
+                writeText(xml, "name", day + "일차");
+                if (legs) {
+                    xml.writeStartElement("trkseg");
+                }
+            }
+
+            @Override
+            public void end() throws XMLStreamException {
+                if (legs) {
+                    xml.writeEndElement();   // trkseg
+                }
+                xml.writeEndElement();
+            }
+        });
+
+        xml.writeEndElement();   // gpx
+    }
+
+    // ============================================================
+    // KML
+    // ============================================================
+
+    private void writeKml(XMLStreamWriter xml, List<RouteExportPoint> points, String title, boolean legs, String travelMode)
+            throws XMLStreamException {
+
+        xml.writeStartElement("kml");
+        xml.writeDefaultNamespace(KML_NS);
+        xml.writeStartElement("Document");
+        writeText(xml, "name", title);
+
+        // 1) 장소 (Point Placemark)
+        xml.writeStartElement("Folder");
+        writeText(xml, "name", "장소");
+        for (RouteExportPoint p : points) {
+            xml.writeStartElement("Placemark");
+            writeText(xml, "name", p.getPlaceName());
+            writeText(xml, "description", p.getDayIndex() + "일차 " + p.getOrderIndex() + "번째"
+                    + (p.getAddress() != null ? " · " + p.getAddress() : ""));
+            xml.writeStartElement("Point");
+            writeText(xml, "coordinates", coord(p.getLng()) + "," + coord(p.getLat()) + ",0");
+            xml.writeEndElement();
+            xml.writeEndElement();
+        }
+        xml.writeEndElement();   // Folder
+
+        // 2) 일차별 LineString
+        LineWriter line = (lat, lng) -> xml.writeCharacters(lng + "," + lat + ",0 ");
+
+        writeDayLines(points, legs, travelMode, line, new DayWriter() {
+            @Override
+            public void start(int day) throws XMLStreamException {
+                xml.writeStartElement("Placemark");
+                writeText(xml, "name", day + "일차");
+                xml.writeStartElement("LineString");
+                writeText(xml, "tessellate", "1");
+                xml.writeStartElement("coordinates");
+            }
+
+            @Override
+            public void end() throws XMLStreamException {
+                xml.writeEndElement();   // coordinates
+                xml.writeEndElement();   // LineString
+                xml.writeEndElement();   // Placemark
+            }
+        });
+
+        xml.writeEndElement();   // Document
+        xml.writeEndElement();   // kml
+    }
+
+    // ============================================================
+    // 공통: 일차별 선
+    // ============================================================
+
+    /**
+     * 방문 지점을 순서대로 보며 일차가 바뀔 때마다 선을 열고 닫는다.
+     * legs 면 이전 장소 → 현재 장소 구간의 polyline 점을, 아니면 장소 좌표를 출력
+     */
+    private void writeDayLines(List<RouteExportPoint> points, boolean legs, String travelMode,
+                               LineWriter line, DayWriter day) throws XMLStreamException {
+
+        PointBuffer buffer = new PointBuffer(256);
+
+        int currentDay = -1;
+        double prevLat = 0, prevLng = 0;
+
+        for (RouteExportPoint p : points) {
+
+            if (p.getDayIndex() != currentDay) {
+                if (currentDay != -1) {
+                    day.end();
+                }
+                currentDay = p.getDayIndex();
+                day.start(currentDay);
+                line.point(coord(p.getLat()), coord(p.getLng()));
+
+            } else if (legs && fetchLeg(prevLat, prevLng, p.getLat(), p.getLng(), travelMode, buffer)) {
+                for (int i = 0; i < buffer.size(); i++) {
+                    line.point(e5(buffer.lat(i)), e5(buffer.lng(i)));
+                }
+                line.point(coord(p.getLat()), coord(p.getLng()));
+
+            } else {
+                line.point(coord(p.getLat()), coord(p.getLng()));
+            }
+
+            prevLat = p.getLat();
+            prevLng = p.getLng();
+        }
+
+        if (currentDay != -1) {
+            day.end();
+        }
+    }
+
+    /** 구간 polyline 을 buffer 에 채움 (실패하면 false) */
+    private boolean fetchLeg(double oLat, double oLng, double dLat, double dLng,
+                             String travelMode, PointBuffer buffer) {
+        buffer.clear();
+        try {
+            ResponseEntity<String> resp = routeStepsService.computeRoute(oLat, oLng, dLat, dLng, travelMode, LANGUAGE_CODE);
+            if (resp.getStatusCode().is2xxSuccessful()) {
+                routePolylineTransformer.appendRoutePoints(resp.getBody(), buffer);
+            }
+        } catch (RestClientException e) {
+            return false;
+        }
+        return buffer.size() > 0;
+    }
+
+    private static void writeText(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        if (text == null) {
+            return;
+        }
+        xml.writeStartElement(name);
+        xml.writeCharacters(text);
+        xml.writeEndElement();
+    }
+
+    /** 지수 표기 없이 좌표 문자열 */
+    private static String coord(double value) {
+        return BigDecimal.valueOf(value).toPlainString();
+    }
+
+    /** polyline E5 정수 → 좌표 문자열 */
+    private static String e5(int value) {
+        return BigDecimal.valueOf(value, 5).toPlainString();
+    }
+
+    @FunctionalInterface
+    private interface LineWriter {
+        void point(String lat, String lng) throws XMLStreamException;
+    }
+
+    private interface DayWriter {
+        void start(int day) throws XMLStreamException;
+
+        void end() throws XMLStreamException;
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.project.route.service;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.project.global.exception.GenerationJobNotFoundException;
+import com.example.project.global.exception.GenerationLimitException;
+import com.example.project.global.exception.GenerationQueueFullException;
+import com.example.project.global.maps.LatLngDto;
+import com.example.project.global.maps.RouteLegResultDto;
+import com.example.project.global.maps.RouteStepsBatchService;
+import com.example.project.member.domain.TravelUser;
+import com.example.project.route.dto.RouteGenerateJobDto;
+import com.example.project.route.dto.RouteGenerateMetricsDto;
+import com.example.project.route.dto.RouteGenerateRequestDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RouteGenerationService
+ * ---------------------------------------
+ * AI 일정 생성(Python /optimize) 을 비동기 작업으로 실행한다.
+ *
+ * 흐름:
+ *  - submit: 작업을 routeGenerateExecutor(고정 스레드 + 제한된 큐)에 넣고 작업 id 를 바로 반환
+ *  - getJob: 작업 상태 / 진행률 / 결과 조회 (클라이언트 폴링, 작업을 등록한 회원만)
+ *  - subscribe: 같은 정보를 단계가 바뀔 때마다 SSE 로 받음 (RouteProgressBroker, 작업을 등록한 회원만)
+ *  - 요청 스레드는 Python 응답을 기다리지 않음
+ *
+ * 단계 (stage): 백엔드가 실제로 관찰하는 단계만 보냄
+ *  - STARTED → OPTIMIZING (Python /optimize 한 번 호출: 장소 확인·일차 분할·최적화·밸런싱을 모두 Python 이 수행)
+ *    → LEGS_COMPUTED (travelMode 가 있을 때, 일차별 구간 경로 계산이 끝날 때마다) → DONE
+ *
+ * 제한:
+ *  - 회원별 진행 중(대기 + 실행) 작업 수는 max-per-user 까지 → 초과 시 GenerationLimitException
+ *  - 큐가 가득 차면 GenerationQueueFullException (요청 스레드에서 대신 실행하지 않음)
+ *
+ * 보관:
+ *  - 작업 상태는 메모리에만 보관하고, 끝난 작업은 retention-minutes 후 정리
+ */
+@Slf4j
+@Service
+public class RouteGenerationService {
+
+    private final RouteOptimizerClient routeOptimizerClient;
+    private final ThreadPoolTaskExecutor routeGenerateExecutor;
+    private final RouteProgressBroker routeProgressBroker;
+    private final RouteStepsBatchService routeStepsBatchService;
+    private final ObjectMapper objectMapper;
+
+    /** 작업 id → 작업 */
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+
+    /** 회원 id → 진행 중인 작업 수 (0 이 되면 키 제거) */
+    private final Map<Integer, Integer> activeByMember = new ConcurrentHashMap<>();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitMillis = new LongAdder();
+    private final LongAdder totalRunMillis = new LongAdder();
+    private final LongAccumulator maxWaitMillis = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxRunMillis = new LongAccumulator(Math::max, 0);
+
+    @Value("${route.generate.max-per-user:2}")
+    private int maxPerUser;
+
+    @Value("${route.generate.retention-minutes:30}")
+    private long retentionMinutes;
+
+    public RouteGenerationService(RouteOptimizerClient routeOptimizerClient,
+                                  @Qualifier("routeGenerateExecutor") ThreadPoolTaskExecutor routeGenerateExecutor,
+                                  RouteProgressBroker routeProgressBroker,
+                                  RouteStepsBatchService routeStepsBatchService,
+                                  ObjectMapper objectMapper) {
+        this.routeOptimizerClient = routeOptimizerClient;
+        this.routeGenerateExecutor = routeGenerateExecutor;
+        this.routeProgressBroker = routeProgressBroker;
+        this.routeStepsBatchService = routeStepsBatchService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 일정 생성 작업 등록 (작업 id 와 QUEUED 상태를 바로 반환)
+     */
+    public RouteGenerateJobDto submit(RouteGenerateRequestDto dto, Principal principal) {
+
+        if (dto.getPlaces() == null || dto.getPlaces().isEmpty()) {
+            throw new IllegalArgumentException("장소 목록이 비어 있습니다.");
+        }
+        if (dto.getDays() < 1) {
+            throw new IllegalArgumentException("여행 일수는 1일 이상이어야 합니다. days=" + dto.getDays());
+        }
+
+        Integer memberId = memberId(principal);
+
+        acquire(memberId);
+
+        GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), memberId);
+        jobs.put(job.getId(), job);
+
+        try {
+            routeGenerateExecutor.execute(() -> run(job, dto));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            release(memberId);
+            rejected.increment();
+            throw new GenerationQueueFullException();
+        }
+
+        submitted.increment();
+        return job.toDto();
+    }
+
+    /**
+     * 작업 상태 조회 (다른 회원의 작업은 없는 작업과 같이 처리)
+     */
+    public RouteGenerateJobDto getJob(String jobId, Principal principal) {
+        return findOwnJob(jobId, principal).toDto();
+    }
+
+    /**
+     * 작업 진행 상황 SSE 구독 (현재 상태를 먼저 보내고, 끝난 작업이면 바로 종료)
+     */
+    public SseEmitter subscribe(String jobId, Principal principal) {
+        GenerationJob job = findOwnJob(jobId, principal);
+        SseEmitter emitter = routeProgressBroker.subscribe(jobId);
+        routeProgressBroker.sendCurrent(jobId, emitter, job.toDto(), job.isFinished());
+        return emitter;
+    }
+
+    GenerationJob findOwnJob(String jobId, Principal principal) {
+        GenerationJob job = findJob(jobId);
+        if (!job.getMemberId().equals(memberId(principal))) {
+            throw new GenerationJobNotFoundException();
+        }
+        return job;
+    }
+
+    GenerationJob findJob(String jobId) {
+        GenerationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new GenerationJobNotFoundException();
+        }
+        return job;
+    }
+
+    /**
+     * 대기열 / 처리 시간 지표
+     */
+    public RouteGenerateMetricsDto getMetrics() {
+
+        long done = completed.sum() + failed.sum();
+
+        return new RouteGenerateMetricsDto(
+                routeGenerateExecutor.getThreadPoolExecutor().getQueue().size(),
+                routeGenerateExecutor.getActiveCount(),
+                submitted.sum(),
+                completed.sum(),
+                failed.sum(),
+                rejected.sum(),
+                done > 0 ? totalWaitMillis.sum() / done : 0,
+                maxWaitMillis.get(),
+                done > 0 ? totalRunMillis.sum() / done : 0,
+                maxRunMillis.get());
+    }
+
+    /**
+     * 끝난 작업 정리 (retention-minutes 가 지난 작업)
+     */
+    @Scheduled(fixedDelayString = "${route.generate.cleanup-interval-ms:60000}")
+    public void evictFinished() {
+        long cutoff = System.currentTimeMillis() - retentionMinutes * 60_000;
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt() < cutoff);
+    }
+
+    // ============================================================
+    // 실행
+    // ============================================================
+
+    private void run(GenerationJob job, RouteGenerateRequestDto dto) {
+
+        job.start();
+        routeProgressBroker.publish(job.getId(), job.toDto());
+
+        try {
+            advance(job, "OPTIMIZING", 10, "장소 " + dto.getPlaces().size() + "개");
+
+            JsonNode result = routeOptimizerClient.optimize(dto.getPlaces(), dto.getDays());
+            JsonNode days = result.path("optimized_places");
+
+            if (dto.getTravelMode() != null && !dto.getTravelMode().isBlank() && result instanceof ObjectNode) {
+                ((ObjectNode) result).set("legs", computeLegs(job, days, dto.getTravelMode()));
+            }
+
+            job.complete(result);
+            completed.increment();
+
+        } catch (RuntimeException e) {
+            log.warn("일정 생성 실패 jobId={}", job.getId(), e);
+            job.fail(e.getMessage());
+            failed.increment();
+
+        } finally {
+            long wait = job.waitMillis();
+            long runTime = job.runMillis();
+            totalWaitMillis.add(wait);
+            totalRunMillis.add(runTime);
+            maxWaitMillis.accumulate(wait);
+            maxRunMillis.accumulate(runTime);
+            release(job.getMemberId());
+            routeProgressBroker.finish(job.getId(), job.toDto());
+        }
+    }
+
+    /** 일차별 구간 경로 (좌표가 없는 장소는 건너뜀) → legs[일차][구간] */
+    private ArrayNode computeLegs(GenerationJob job, JsonNode days, String travelMode) {
+
+        ArrayNode legsByDay = objectMapper.createArrayNode();
+        int dayCount = days.size();
+
+        for (int d = 0; d < dayCount; d++) {
+            List<LatLngDto> stops = new ArrayList<>();
+            for (JsonNode place : days.get(d)) {
+                if (place.path("lat").isNumber() && place.path("lng").isNumber()) {
+                    stops.add(new LatLngDto(place.get("lat").asDouble(), place.get("lng").asDouble()));
+                }
+            }
+
+            List<RouteLegResultDto> legs = stops.size() < 2
+                    ? List.of()
+                    : routeStepsBatchService.computeLegs(stops, travelMode, "ko-KR");
+            legsByDay.add(objectMapper.valueToTree(legs));
+
+            advance(job, "LEGS_COMPUTED", 70 + 25 * (d + 1) / dayCount,
+                    (d + 1) + "/" + dayCount + "일차 · 구간 " + legs.size() + "개");
+        }
+        return legsByDay;
+    }
+
+    private void advance(GenerationJob job, String stage, int progress, String detail) {
+        job.advance(stage, progress, detail);
+        routeProgressBroker.publish(job.getId(), job.toDto());
+    }
+
+    private static Integer memberId(Principal principal) {
+        TravelUser user = (TravelUser) ((UsernamePasswordAuthenticationToken) principal).getPrincipal();
+        return user.getId();
+    }
+
+    private void acquire(Integer memberId) {
+        boolean[] allowed = { false };
+        activeByMember.compute(memberId, (k, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= maxPerUser) {
+                return count;
+            }
+            allowed[0] = true;
+            return current + 1;
+        });
+        if (!allowed[0]) {
+            throw new GenerationLimitException();
+        }
+    }
+
+    private void release(Integer memberId) {
+        activeByMember.computeIfPresent(memberId, (k, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.project.route.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RouteLikeCounter
+ * ---------------------------------------
+ * 일정별 좋아요 수 (메모리 카운터 + 주기적 DB 반영).
+ *
+ * 카운터:
+ *  - 일정마다 LongAdder 2개: 전체 수(counts), 아직 DB 에 반영하지 않은 증감(pending)
+ *  - LongAdder 는 내부적으로 셀을 나눠 더하므로 같은 일정에 좋아요가 몰려도 한 값을 두고 경합하지 않음
+ *  - 조회는 메모리 값 → O(1), COUNT(*) 없음
+ *
+ * DB 반영 (write-behind):
+ *  - flush-ms 마다 pending 을 모아 "like_count = like_count + ?" 를 JDBC 배치 한 번으로 전송
+ *  - 반영한 만큼만 pending 에서 빼므로 그 사이 들어온 증감은 다음 주기에 반영됨
+ *  - 실패하면 다시 pending 에 더해 다음 주기에 재시도
+ *
+ * 맞추기 (reconciliation):
+ *  - 서버 시작 시 like_count 를 좋아요 테이블 COUNT 로 다시 계산하고 그 값으로 카운터를 채움
+ *    (이전 실행에서 반영하지 못한 증감이 있어도 좋아요 테이블이 기준)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RouteLikeCounter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 일정 id → 좋아요 수 */
+    private final Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+
+    /** 일정 id → DB 에 아직 반영하지 않은 증감 */
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+
+        jdbcTemplate.update("UPDATE route r SET like_count = "
+                + "(SELECT COUNT(*) FROM member_like_route l WHERE l.rt_id = r.id)");
+
+        Map<Long, LongAdder> loaded = new ConcurrentHashMap<>();
+        jdbcTemplate.query("SELECT rt_id, COUNT(*) FROM member_like_route GROUP BY rt_id", rs -> {
+            LongAdder adder = new LongAdder();
+            adder.add(rs.getLong(2));
+            loaded.put(rs.getLong(1), adder);
+        });
+
+        // 시작 직후 들어온 증감은 이미 테이블 COUNT 에 포함되어 있으므로 버림
+        pending.clear();
+        counts.clear();
+        counts.putAll(loaded);
+        log.info("일정 좋아요 수 맞춤 {}건", loaded.size());
+    }
+
+    public void increment(Long routeId) {
+        add(routeId, 1);
+    }
+
+    public void decrement(Long routeId) {
+        add(routeId, -1);
+    }
+
+    /** 현재 좋아요 수 */
+    public long get(Long routeId) {
+        LongAdder adder = counts.get(routeId);
+        return adder != null ? Math.max(adder.sum(), 0) : 0;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRouteChanged(RouteChangedEvent event) {
+        if (event.getType() == RouteChangedEvent.Type.DELETED) {
+            counts.remove(event.getRouteId());
+            pending.remove(event.getRouteId());
+        }
+    }
+
+    /**
+     * 쌓인 증감을 DB 에 반영
+     */
+    @Scheduled(fixedDelayString = "${route.like-count.flush-ms:5000}")
+    public void flush() {
+
+        List<Object[]> rows = new ArrayList<>();
+
+        // 0 이 된 항목도 지우지 않음 (지우는 순간 다른 스레드가 옛 LongAdder 에 더하면 유실)
+        pending.forEach((routeId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                adder.add(-delta);    // 가져간 만큼만 뺌 (동시에 더해진 값은 남음)
+                rows.add(new Object[] { delta, routeId });
+            }
+        });
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE route SET like_count = COALESCE(like_count, 0) + ? WHERE id = ?", rows);
+        } catch (DataAccessException e) {
+            log.warn("좋아요 수 반영 실패, 다음 주기에 재시도 ({}건)", rows.size(), e);
+            for (Object[] row : rows) {
+                pending.computeIfAbsent((Long) row[1], k -> new LongAdder()).add((Long) row[0]);
+            }
+        }
+    }
+
+    private void add(Long routeId, long delta) {
+        counts.computeIfAbsent(routeId, k -> new LongAdder()).add(delta);
+        pending.computeIfAbsent(routeId, k -> new LongAdder()).add(delta);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.project.route.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * RouteOptimizerClient
+ * ---------------------------------------
+ * Python AI 서버의 일정 생성 파이프라인 호출
+ *
+ * Endpoint:
+ *   POST {python.api.url}/optimize  { places, days }
+ *   → enrich → 날짜 분할 → 경로 최적화 → 일정 밸런싱 → { optimized_places: [[...], ...] }
+ *
+ * 파이프라인이 수 초 ~ 수십 초 걸리므로 읽기 타임아웃을 길게 둔다. (python.api.timeout-seconds)
+ */
+@Service
+public class RouteOptimizerClient {
+
+    @Value("${python.api.url:http://localhost:8000}")
+    private String baseUrl;
+
+    private final RestTemplate restTemplate;
+
+    public RouteOptimizerClient(@Value("${python.api.timeout-seconds:120}") int timeoutSeconds) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(5000);
+        factory.setReadTimeout(timeoutSeconds * 1000);
+        this.restTemplate = new RestTemplate(factory);
+    }
+
+    /**
+     * 일정 생성 (Python 이 error 를 돌려주면 예외)
+     */
+    public JsonNode optimize(List<Map<String, Object>> places, int days) {
+
+        JsonNode body = restTemplate.postForObject(
+                baseUrl + "/optimize",
+                Map.of("places", places, "days", days),
+                JsonNode.class);
+
+        if (body == null) {
+            throw new IllegalStateException("일정 생성 서버 응답이 비어 있습니다.");
+        }
+        if (body.hasNonNull("error")) {
+            throw new IllegalStateException("일정 생성 실패: " + body.get("error").asText());
+        }
+        return body;
+    }
+}
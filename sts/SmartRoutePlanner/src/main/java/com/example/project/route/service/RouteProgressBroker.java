@@ -0,0 +1,124 @@
+package com.example.project.route.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.project.route.dto.RouteGenerateJobDto;
+
+/**
+ * RouteProgressBroker
+ * ---------------------------------------
+ * 오래 걸리는 일정 작업(AI 일정 생성)의 단계별 진행 상황을 SSE 로 전달한다.
+ *
+ * 연결:
+ *  - SseEmitter 는 서블릿 비동기 모드로 동작 → 컨트롤러가 반환하면 요청 스레드는 풀로 돌아가고,
+ *    열린 연결은 응답 객체만 남는다. (대기 중인 클라이언트 수만큼 스레드를 잡지 않음)
+ *  - 이벤트는 단계를 바꾼 작업 스레드가 해당 작업 구독자에게만 보낸다.
+ *
+ * 이벤트:
+ *  - name = "progress": 단계가 바뀔 때마다 (RouteGenerateJobDto)
+ *  - name = "done": 완료/실패 시 마지막 상태, 보낸 뒤 연결 종료
+ *  - 주기적으로 주석(heartbeat) 을 보내 프록시 유휴 종료를 막고 끊긴 연결을 정리
+ */
+@Component
+public class RouteProgressBroker {
+
+    /** 작업 id → 구독 중인 연결 */
+    private final Map<String, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    @Value("${route.progress.sse-timeout-ms:600000}")
+    private long timeoutMillis;
+
+    /**
+     * 구독 등록 (등록 후 현재 상태를 먼저 보내므로 등록 사이에 지나간 단계는 놓치지 않음)
+     */
+    public SseEmitter subscribe(String jobId) {
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        subscribers.computeIfAbsent(jobId, k -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+        emitter.onCompletion(() -> unsubscribe(jobId, emitter));
+        emitter.onTimeout(() -> unsubscribe(jobId, emitter));
+        emitter.onError(e -> unsubscribe(jobId, emitter));
+        return emitter;
+    }
+
+    /** 진행 단계 전송 */
+    public void publish(String jobId, RouteGenerateJobDto state) {
+        Set<SseEmitter> emitters = subscribers.get(jobId);
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            send(jobId, emitter, "progress", state);
+        }
+    }
+
+    /** 마지막 상태 전송 후 모든 연결 종료 */
+    public void finish(String jobId, RouteGenerateJobDto state) {
+        Set<SseEmitter> emitters = subscribers.remove(jobId);
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            finish(jobId, emitter, state);
+        }
+    }
+
+    /** 연결 하나에 현재 상태 전송 (작업이 이미 끝났으면 종료) */
+    public void sendCurrent(String jobId, SseEmitter emitter, RouteGenerateJobDto state, boolean finished) {
+        if (finished) {
+            finish(jobId, emitter, state);
+        } else {
+            send(jobId, emitter, "progress", state);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${route.progress.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach((jobId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    unsubscribe(jobId, emitter);
+                }
+            }
+        });
+    }
+
+    // ============================================================
+    // 내부
+    // ============================================================
+
+    private void finish(String jobId, SseEmitter emitter, RouteGenerateJobDto state) {
+        if (send(jobId, emitter, "done", state)) {
+            emitter.complete();
+        }
+    }
+
+    private boolean send(String jobId, SseEmitter emitter, String name, RouteGenerateJobDto state) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(state));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 종료된 연결
+            unsubscribe(jobId, emitter);
+            return false;
+        }
+    }
+
+    private void unsubscribe(String jobId, SseEmitter emitter) {
+        subscribers.computeIfPresent(jobId, (k, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -0,0 +1,352 @@
+package com.example.project.route.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.project.place.domain.Place;
+import com.example.project.place.repository.PlaceRepository;
+import com.example.project.route.domain.Route;
+import com.example.project.route.domain.RouteRevision;
+import com.example.project.route.dto.PlaceSummaryDto;
+import com.example.project.route.dto.RouteCreateRequestDto;
+import com.example.project.route.dto.RouteRevisionDto;
+import com.example.project.route.dto.RouteStopPoint;
+import com.example.project.route.dto.RouteVersionResponseDto;
+import com.example.project.route.repository.RoutePlaceRepository;
+import com.example.project.route.repository.RouteRepository;
+import com.example.project.route.repository.RouteRevisionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RouteRevisionService
+ * ---------------------------------------
+ * 일정 변경 이력(버전) 저장 / 조회 / 되돌리기.
+ *
+ * 저장:
+ *  - RouteChangedEvent(AFTER_COMMIT) 를 받으면 routeRevisionExecutor 에 기록 작업을 넘김 (요청 스레드는 기다리지 않음)
+ *  - 같은 일정은 한 번에 한 작업만 실행하고, 실행 중에 들어온 변경은 끝난 뒤 한 번 더 기록 (RouteSummaryService 와 같은 방식)
+ *    → 기록 시점의 커밋된 상태를 읽으므로, 연달아 커밋된 변경은 마지막 상태 하나로 합쳐질 수 있음
+ *  - 일정이 삭제되었으면(DELETED 또는 기록 시점에 일정이 없으면) 이력을 지움 → 삭제도 같은 순서로 처리
+ *  - 직전 버전과 달라진 일차의 장소 id 목록만 저장(DELTA)하고,
+ *    FULL 이후 DELTA 가 checkpoint-interval - 1 개 쌓이면 다음 버전은 전체(FULL)로 저장
+ *  - 달라진 것이 없으면 버전을 만들지 않음
+ *
+ * 조회:
+ *  - 버전 n = n 이하의 마지막 FULL + 그 뒤 DELTA (최대 checkpoint-interval 행, 쿼리 1번)
+ *
+ * 되돌리기:
+ *  - 버전 n 의 내용으로 updateRoute → 그 결과가 다시 새 버전으로 기록됨 (이력은 지우지 않음)
+ */
+@Slf4j
+@Service
+public class RouteRevisionService {
+
+    private static final TypeReference<TreeMap<Integer, List<Long>>> DAYS_TYPE = new TypeReference<>() {};
+
+    private final RouteRevisionRepository routeRevisionRepository;
+    private final RouteRepository routeRepository;
+    private final RoutePlaceRepository routePlaceRepository;
+    private final PlaceRepository placeRepository;
+    private final RouteService routeService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate requiresNew;
+    private final ThreadPoolTaskExecutor routeRevisionExecutor;
+
+    /** 기록 예약된 일정 id → 실행 중에 다시 변경되었는지 (RouteSummaryService.pending 과 같은 방식) */
+    private final ConcurrentHashMap<Long, Boolean> pending = new ConcurrentHashMap<>();
+
+    @Value("${route.revision.checkpoint-interval:10}")
+    private int checkpointInterval;
+
+    public RouteRevisionService(RouteRevisionRepository routeRevisionRepository,
+                                RouteRepository routeRepository,
+                                RoutePlaceRepository routePlaceRepository,
+                                PlaceRepository placeRepository,
+                                RouteService routeService,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Qualifier("routeRevisionExecutor") ThreadPoolTaskExecutor routeRevisionExecutor) {
+        this.routeRevisionRepository = routeRevisionRepository;
+        this.routeRepository = routeRepository;
+        this.routePlaceRepository = routePlaceRepository;
+        this.placeRepository = placeRepository;
+        this.routeService = routeService;
+        this.objectMapper = objectMapper;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.routeRevisionExecutor = routeRevisionExecutor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRouteChanged(RouteChangedEvent event) {
+        // DELETED 도 같은 순서로 처리 (기록 시점에 일정이 없으면 이력 삭제)
+        schedule(event.getRouteId());
+    }
+
+    /**
+     * 이력 기록 예약 (이미 예약/실행 중이면 표시만 해두고 실행 중인 작업이 다시 기록)
+     */
+    public void schedule(Long routeId) {
+        if (pending.put(routeId, Boolean.TRUE) == null) {
+            routeRevisionExecutor.execute(() -> drain(routeId));
+        }
+    }
+
+    private void drain(Long routeId) {
+        try {
+            do {
+                pending.put(routeId, Boolean.FALSE);
+                requiresNew.executeWithoutResult(status -> record(routeId));
+            } while (!pending.remove(routeId, Boolean.FALSE));
+        } catch (RuntimeException e) {
+            // 이력 저장 실패가 이미 커밋된 일정 저장에 영향을 주지 않도록 기록만 남김
+            pending.remove(routeId);
+            log.warn("일정 이력 저장 실패 routeId={}", routeId, e);
+        }
+    }
+
+    /**
+     * 커밋된 현재 상태를 새 버전으로 기록 (일정이 없으면 이력 삭제)
+     */
+    private void record(Long routeId) {
+
+        Route route = routeRepository.findById(routeId).orElse(null);
+        if (route == null) {
+            routeRevisionRepository.deleteByRouteId(routeId);
+            return;
+        }
+
+        Snapshot current = new Snapshot();
+        current.title = route.getTitle();
+        current.startDate = route.getStartDate();
+        current.endDate = route.getEndDate();
+        current.totalDays = route.getTotalDays();
+        for (RouteStopPoint point : routePlaceRepository.findStopPoints(routeId)) {
+            current.days.computeIfAbsent(point.getDayIndex(), k -> new ArrayList<>()).add(point.getPlaceId());
+        }
+
+        List<RouteRevision> chain = routeRevisionRepository.findChain(routeId, Integer.MAX_VALUE, RouteRevision.Kind.FULL);
+        RouteRevision revision = nextRevision(routeId, chain, current);
+        if (revision != null) {
+            routeRevisionRepository.save(revision);
+        }
+    }
+
+    /**
+     * chain(마지막 FULL 부터 최신 버전까지) 다음에 current 를 기록할 버전 (달라진 것이 없으면 null)
+     */
+    RouteRevision nextRevision(Long routeId, List<RouteRevision> chain, Snapshot current) {
+
+        Snapshot previous = chain.isEmpty() ? null : replay(chain);
+
+        RouteRevision revision = new RouteRevision();
+        revision.setRouteId(routeId);
+        revision.setVersion(chain.isEmpty() ? 1 : chain.get(chain.size() - 1).getVersion() + 1);
+        revision.setTitle(current.title);
+        revision.setStartDate(current.startDate);
+        revision.setEndDate(current.endDate);
+        revision.setTotalDays(current.totalDays);
+        revision.setCreatedAt(LocalDateTime.now());
+
+        Map<Integer, List<Long>> payload;
+        if (previous == null || chain.size() >= checkpointInterval) {
+            revision.setKind(RouteRevision.Kind.FULL);
+            payload = current.days;
+        } else {
+            payload = changedDays(previous, current);
+            if (payload.isEmpty() && previous.sameHeader(current)) {
+                return null;
+            }
+            revision.setKind(RouteRevision.Kind.DELTA);
+        }
+
+        revision.setPayload(write(payload));
+        return revision;
+    }
+
+    // ============================================================
+    // 조회 / 되돌리기
+    // ============================================================
+
+    /** 버전 목록 (최신 순) */
+    @Transactional(readOnly = true)
+    public List<RouteRevisionDto> getHistory(Long routeId, int size) {
+        return routeRevisionRepository.findHistory(routeId, PageRequest.of(0, size));
+    }
+
+    /** 버전 n 의 일정 내용 */
+    @Transactional(readOnly = true)
+    public RouteVersionResponseDto getVersion(Long routeId, int version) {
+
+        List<RouteRevision> chain = findChain(routeId, version);
+        Snapshot snapshot = replay(chain);
+        Map<Long, Place> places = loadPlaces(snapshot);
+
+        List<List<PlaceSummaryDto>> places2d = new ArrayList<>(snapshot.totalDays);
+        for (int day = 1; day <= snapshot.totalDays; day++) {
+            List<PlaceSummaryDto> dayPlaces = new ArrayList<>();
+            int order = 1;
+            for (Long placeId : snapshot.days.getOrDefault(day, List.of())) {
+                Place place = places.get(placeId);
+                if (place != null) {
+                    dayPlaces.add(RouteService.toPlaceSummary(place, order));
+                }
+                order++;
+            }
+            places2d.add(dayPlaces);
+        }
+
+        return new RouteVersionResponseDto(
+                routeId,
+                version,
+                chain.get(chain.size() - 1).getCreatedAt(),
+                snapshot.title,
+                snapshot.startDate,
+                snapshot.endDate,
+                places2d);
+    }
+
+    /**
+     * 버전 n 의 내용으로 일정을 되돌림 (삭제된 장소는 제외)
+     */
+    @Transactional
+    public void restore(Long routeId, int version) {
+
+        Snapshot snapshot = replay(findChain(routeId, version));
+        Map<Long, Place> places = loadPlaces(snapshot);
+
+        List<List<RouteCreateRequestDto.SimplePlaceDto>> days = new ArrayList<>(snapshot.totalDays);
+        for (int day = 1; day <= snapshot.totalDays; day++) {
+            List<RouteCreateRequestDto.SimplePlaceDto> dayPlaces = new ArrayList<>();
+            for (Long placeId : snapshot.days.getOrDefault(day, List.of())) {
+                Place place = places.get(placeId);
+                if (place != null) {
+                    RouteCreateRequestDto.SimplePlaceDto sp = new RouteCreateRequestDto.SimplePlaceDto();
+                    sp.setPlaceId(place.getGooglePlaceId());
+                    sp.setPlaceName(place.getName());
+                    dayPlaces.add(sp);
+                }
+            }
+            days.add(dayPlaces);
+        }
+
+        RouteCreateRequestDto dto = new RouteCreateRequestDto();
+        dto.setTitle(snapshot.title);
+        dto.setStartDate(snapshot.startDate);
+        dto.setEndDate(snapshot.endDate);
+        dto.setPlaces(days);
+
+        routeService.updateRoute(routeId, dto);
+    }
+
+    // ============================================================
+    // 내부
+    // ============================================================
+
+    private List<RouteRevision> findChain(Long routeId, int version) {
+        List<RouteRevision> chain = routeRevisionRepository.findChain(routeId, version, RouteRevision.Kind.FULL);
+        if (chain.isEmpty() || chain.get(chain.size() - 1).getVersion() != version) {
+            throw new IllegalArgumentException("Route version not found id=" + routeId + " version=" + version);
+        }
+        return chain;
+    }
+
+    /** FULL + DELTA 들을 차례로 덮어써서 마지막 버전 상태를 만든다 */
+    Snapshot replay(List<RouteRevision> chain) {
+        Snapshot snapshot = new Snapshot();
+        for (RouteRevision revision : chain) {
+            if (revision.getKind() == RouteRevision.Kind.FULL) {
+                snapshot.days.clear();
+            }
+            snapshot.title = revision.getTitle();
+            snapshot.startDate = revision.getStartDate();
+            snapshot.endDate = revision.getEndDate();
+            snapshot.totalDays = revision.getTotalDays();
+            snapshot.days.putAll(read(revision.getPayload()));
+
+            // 일수가 줄면 뒤쪽 일차는 버림 (다시 늘어날 때 예전 장소가 살아나지 않도록)
+            snapshot.days.keySet().removeIf(day -> day > revision.getTotalDays());
+        }
+        return snapshot;
+    }
+
+    /** 현재 일수 안에서 직전 버전과 장소 목록이 다른 일차 (줄어든 일차는 totalDays 로 표현됨) */
+    static Map<Integer, List<Long>> changedDays(Snapshot previous, Snapshot current) {
+        Map<Integer, List<Long>> changed = new TreeMap<>();
+        for (int day = 1; day <= current.totalDays; day++) {
+            List<Long> before = previous.days.getOrDefault(day, List.of());
+            List<Long> after = current.days.getOrDefault(day, List.of());
+            if (!before.equals(after)) {
+                changed.put(day, after);
+            }
+        }
+        return changed;
+    }
+
+    private Map<Long, Place> loadPlaces(Snapshot snapshot) {
+        List<Long> ids = snapshot.days.values().stream()
+                .flatMap(List::stream)
+                .distinct()
+                .collect(Collectors.toList());
+        return placeRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Place::getId, Function.identity()));
+    }
+
+    private String write(Map<Integer, List<Long>> days) {
+        try {
+            return objectMapper.writeValueAsString(days);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("일정 이력 직렬화 실패", e);
+        }
+    }
+
+    private Map<Integer, List<Long>> read(String payload) {
+        if (payload == null || payload.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(payload, DAYS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("일정 이력 읽기 실패", e);
+        }
+    }
+
+    /** 복원 중인 일정 상태 */
+    static final class Snapshot {
+        String title;
+        LocalDate startDate;
+        LocalDate endDate;
+        int totalDays;
+        final Map<Integer, List<Long>> days = new TreeMap<>();
+
+        boolean sameHeader(Snapshot other) {
+            return Objects.equals(title, other.title)
+                    && Objects.equals(startDate, other.startDate)
+                    && Objects.equals(endDate, other.endDate)
+                    && totalDays == other.totalDays;
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.example.project.route.service;
 
+import java.security.Principal;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.project.global.maps.LatLngDto;
 import com.example.project.member.domain.TravelUser;
 import com.example.project.member.repository.TravelUserRepository;
 import com.example.project.place.domain.Place;
@@ -17,9 +25,13 @@ import com.example.project.place.service.PlaceService;
 import com.example.project.route.domain.Route;
 import com.example.project.route.domain.RoutePlace;
 import com.example.project.route.dto.PlaceSummaryDto;
+import com.example.project.route.dto.RouteDaySummaryDto;
+import com.example.project.route.dto.RouteSummaryDto;
 import com.example.project.route.dto.RouteCreateRequestDto;
 import com.example.project.route.dto.RouteDetailResponseDto;
 import com.example.project.route.dto.RouteListItemDto;
+import com.example.project.route.dto.RoutePatchRequestDto;
+import com.example.project.route.dto.RoutePlacePosition;
 import com.example.project.route.repository.RoutePlaceRepository;
 import com.example.project.route.repository.RouteRepository;
 
@@ -38,6 +50,10 @@ public class RouteService {
     private final RoutePlaceRepository routePlaceRepository;
     private final TravelUserRepository travelUserRepository;
     private final PlaceService placeService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** RoutePlace 시퀀스 한 값이 나타내는 id 개수 (RoutePlace allocationSize, SEQ_ROUTE_PLACE_ID INCREMENT BY) */
+    private static final int ROUTE_PLACE_ID_BLOCK = 50;
 
     /**
      * 일정 생성
@@ -58,30 +74,10 @@ public class RouteService {
 
         Route saved = routeRepository.save(route);
 
-        int dayIndex = 1;
-     // day 변수: 해당 날짜에 방문할 장소들의 리스트 (List<SimplePlaceDto>)
-        for (List<RouteCreateRequestDto.SimplePlaceDto> day : dto.getPlaces()) {
-
-            int orderIndex = 1;
-         // [안쪽 for문]: 해당 날짜의 장소(Place)들을 순회합니다.
-            for (RouteCreateRequestDto.SimplePlaceDto sp : day) {
-
-            	Place place = placeService.savePlaceFromGoogle(sp.getPlaceId());
-            	
-                RoutePlace rp = new RoutePlace();
-                
-                rp.setRoute(saved);
-                rp.setPlace(place);
-                rp.setPlaceName(place.getName());
-                rp.setDayIndex(dayIndex);
-                rp.setOrderIndex(orderIndex);
-
-                routePlaceRepository.save(rp);
-                orderIndex++;
-            }
-            dayIndex++;
-        }
+        // RoutePlace 를 모아서 한 번에 저장 (flush 시 JDBC 배치 INSERT)
+        routePlaceRepository.saveAll(buildRoutePlaces(saved, dto.getPlaces()));
 
+        eventPublisher.publishEvent(new RouteChangedEvent(saved.getId(), RouteChangedEvent.Type.CREATED));
         return saved.getId();
     }
 
@@ -104,42 +100,8 @@ public class RouteService {
                 .collect(Collectors.groupingBy(
                         RoutePlace::getDayIndex,
                         LinkedHashMap::new,
-                        Collectors.mapping(rp -> {
-                            // ★ 핵심 2: RoutePlace와 매칭된 Place 객체 데이터를 꺼냄 (JPA가 ID 매칭 처리)
-                            Place p = rp.getPlace(); 
-                            
-                            // Place 정보를 담을 DTO 생성
-                            PlaceSummaryDto dto = new PlaceSummaryDto();
-                         // 1. Types
-                            dto.setTypes(new ArrayList<>(p.getTypes())); 
-
-                            // 2. PhotoReferences
-                            if (p.getPhotoReferences() != null) {
-                                dto.setPhotoReferences(new ArrayList<>(p.getPhotoReferences()));
-                            } else {
-                                dto.setPhotoReferences(new ArrayList<>());
-                            }
-                            
-                            // 3. HtmlAttributions
-                            if (p.getHtmlAttributions() != null) {
-                                dto.setHtmlAttributions(new ArrayList<>(p.getHtmlAttributions()));
-                            } else {
-                                 dto.setHtmlAttributions(new ArrayList<>());
-                            }
-                            // [Place 객체 데이터 복사] 
-                            // PlaceResponseDto에 있는 모든 필드를 그대로 옮겨 담습니다.
-                            dto.setId(p.getId());
-                            dto.setGooglePlaceId(p.getGooglePlaceId());
-                            dto.setName(p.getName());
-                            dto.setFormattedAddress(p.getFormattedAddress());
-                            dto.setLat(p.getLat());
-                            dto.setLng(p.getLng());
-                            dto.setRating(p.getRating());
-                            dto.setUserRatingsTotal(p.getUserRatingsTotal());
-                            dto.setOrderIndex(rp.getOrderIndex());
-
-                            return dto;
-                        }, Collectors.toList())
+                        Collectors.mapping(rp -> toPlaceSummary(rp.getPlace(), rp.getOrderIndex()),
+                                Collectors.toList())
                 ));
 
         // 4. Map -> 2차원 List 변환 (빈 날짜 처리 포함)
@@ -158,39 +120,98 @@ public class RouteService {
                 route.getTitle(),
                 route.getStartDate(),
                 route.getEndDate(),
-                places2d // ★ Place 객체 데이터가 담긴 2차원 리스트
+                places2d, // ★ Place 객체 데이터가 담긴 2차원 리스트
+                RouteSummaryDto.from(route.getSummary()),
+                route.getDaySummaries().stream().map(RouteDaySummaryDto::from).toList()
         );
     }
-    
-    
-    
+
+    /**
+     * Place → 응답용 장소 요약 (상세 조회, 버전 조회에서 사용)
+     */
+    static PlaceSummaryDto toPlaceSummary(Place p, int orderIndex) {
+
+        // Place 정보를 담을 DTO 생성
+        PlaceSummaryDto dto = new PlaceSummaryDto();
+        // 1. Types
+        dto.setTypes(new ArrayList<>(p.getTypes()));
+
+        // 2. PhotoReferences
+        if (p.getPhotoReferences() != null) {
+            dto.setPhotoReferences(new ArrayList<>(p.getPhotoReferences()));
+        } else {
+            dto.setPhotoReferences(new ArrayList<>());
+        }
+
+        // 3. HtmlAttributions
+        if (p.getHtmlAttributions() != null) {
+            dto.setHtmlAttributions(new ArrayList<>(p.getHtmlAttributions()));
+        } else {
+            dto.setHtmlAttributions(new ArrayList<>());
+        }
+        // [Place 객체 데이터 복사]
+        // PlaceResponseDto에 있는 모든 필드를 그대로 옮겨 담습니다.
+        dto.setId(p.getId());
+        dto.setGooglePlaceId(p.getGooglePlaceId());
+        dto.setName(p.getName());
+        dto.setFormattedAddress(p.getFormattedAddress());
+        dto.setLat(p.getLat());
+        dto.setLng(p.getLng());
+        dto.setRating(p.getRating());
+        dto.setUserRatingsTotal(p.getUserRatingsTotal());
+        dto.setOrderIndex(orderIndex);
+
+        return dto;
+    }
+
+    /**
+     * 특정 일차의 방문 지점 좌표 (방문 순서대로)
+     * 구간 경로(route-steps) 일괄 조회에 사용
+     */
+    public List<LatLngDto> getDayStops(Long routeId, int dayIndex) {
+        return routePlaceRepository.findDayPlaces(routeId, dayIndex).stream()
+                .map(rp -> new LatLngDto(rp.getPlace().getLat(), rp.getPlace().getLng()))
+                .collect(Collectors.toList());
+    }
 
     /**
      * 특정 회원의 일정 목록 조회
+     * 일정 + 첫 번째 장소 + 대표 사진을 쿼리 한 번으로 가져온다. (route id 기준 keyset 페이지)
+     *
+     * @param afterId 이전 페이지의 마지막 routeId (null 이면 처음부터)
+     * @param size    페이지 크기
      */
-    public List<RouteListItemDto> getRoutesByMember(Long memberId) {
+    public List<RouteListItemDto> getRoutesByMember(Long memberId, Long afterId, int size) {
 
-        List<Route> routes =
-                routeRepository.findAllByUser_Id(memberId.intValue());
+        return routeRepository.findListItemsByMember(
+                memberId.intValue(),
+                afterId != null ? afterId : 0L,
+                PageRequest.of(0, size));
+    }
 
-     // Stream map을 사용하여 각 Route마다 첫 번째 장소를 찾아서 DTO 생성
-        return routes.stream()
-                .map(route -> {
-                    // 1. 해당 루트의 첫 번째 장소(RoutePlace) 조회
-                    RoutePlace firstRp = routePlaceRepository
-                            .findFirstByRouteIdOrderByDayIndexAscOrderIndexAsc(route.getId())
-                            .orElse(null);
+    /**
+     * id 목록 순서 그대로 일정 목록 정보 조회 (쿼리 1번, 없는 id 는 건너뜀)
+     * 인기 일정, 주변 일정처럼 순서가 먼저 정해지는 목록에 사용
+     */
+    public List<RouteListItemDto> getListItems(List<Long> routeIds) {
 
-                    // 2. RoutePlace에서 Place(장소 원본) 꺼내기 (없으면 null)
-                    Place firstPlace = (firstRp != null) ? firstRp.getPlace() : null;
+        if (routeIds.isEmpty()) {
+            return List.of();
+        }
 
-                    // 3. DTO 생성 (Route + Place 정보)
-                    return new RouteListItemDto(route, firstPlace);
-                })
-                .collect(Collectors.toList());
+        Map<Long, RouteListItemDto> byId = routeRepository.findListItemsByIds(routeIds).stream()
+                .collect(Collectors.toMap(RouteListItemDto::getRouteId, Function.identity()));
+
+        List<RouteListItemDto> result = new ArrayList<>(routeIds.size());
+        for (Long id : routeIds) {
+            RouteListItemDto item = byId.get(id);
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
     }
 
-   
     /**
      * 일정 수정 (최종 수정본)
      */
@@ -206,18 +227,129 @@ public class RouteService {
         route.setEndDate(dto.getEndDate());
         route.setTotalDays(dto.getPlaces().size());
 
-        // 2. 기존 장소들 모두 삭제 (Delete All)
-        routePlaceRepository.deleteByRouteId(routeId);
+        // 2. 기존 장소와 새 장소 목록 비교 (diff)
+        //    - 같은 위치, 같은 장소: 변경 없음
+        //    - 위치만 바뀐 장소: UPDATE (dayIndex, orderIndex)
+        //    - 없어진 장소: DELETE / 새 장소: INSERT
+        //    UPDATE, INSERT 는 flush 시 JDBC 배치로 전송된다.
+        List<RoutePlace> existing =
+                routePlaceRepository.findByRouteIdOrderByDayIndexAscOrderIndexAsc(routeId);
+
+        applyPlaceDiff(route, existing, dto.getPlaces());
+
+        eventPublisher.publishEvent(new RouteChangedEvent(routeId, RouteChangedEvent.Type.UPDATED));
+    }
+
+    /**
+     * 저장된 RoutePlace 목록을 새 2차원 장소 목록에 맞게 최소 변경으로 반영
+     */
+    private void applyPlaceDiff(Route route, List<RoutePlace> existing,
+                                List<List<RouteCreateRequestDto.SimplePlaceDto>> days) {
+
+        // 1) 위치(일차:순서)별 기존 행
+        Map<String, RoutePlace> byPosition = new HashMap<>();
+        for (RoutePlace rp : existing) {
+            byPosition.put(rp.getDayIndex() + ":" + rp.getOrderIndex(), rp);
+        }
+
+        // 2) 같은 위치에 같은 장소가 있으면 그대로 유지
+        List<int[]> unmatchedPositions = new ArrayList<>();
+        List<String> unmatchedPlaceIds = new ArrayList<>();
 
-        // 3. 새 장소 목록 다시 등록 (Insert All) - createRoute와 동일한 로직 적용
         int dayIndex = 1;
-        for (List<RouteCreateRequestDto.SimplePlaceDto> day : dto.getPlaces()) {
+        for (List<RouteCreateRequestDto.SimplePlaceDto> day : days) {
             int orderIndex = 1;
             for (RouteCreateRequestDto.SimplePlaceDto sp : day) {
+                RoutePlace rp = byPosition.get(dayIndex + ":" + orderIndex);
+
+                if (rp != null && rp.getPlace().getGooglePlaceId().equals(sp.getPlaceId())) {
+                    byPosition.remove(dayIndex + ":" + orderIndex);
+                } else {
+                    unmatchedPositions.add(new int[] { dayIndex, orderIndex });
+                    unmatchedPlaceIds.add(sp.getPlaceId());
+                }
+                orderIndex++;
+            }
+            dayIndex++;
+        }
+
+        // 3) 남은 기존 행을 장소별로 모아 이동(UPDATE) 대상으로 재사용
+        Map<String, Deque<RoutePlace>> movable = new HashMap<>();
+        for (RoutePlace rp : byPosition.values()) {
+            movable.computeIfAbsent(rp.getPlace().getGooglePlaceId(), k -> new ArrayDeque<>()).add(rp);
+        }
+
+        List<int[]> insertPositions = new ArrayList<>();
+        List<String> insertPlaceIds = new ArrayList<>();
 
-                // [수정 포인트] findById가 아니라 savePlaceFromGoogle 사용!
-                // sp.getPlaceId()는 이제 String(Google ID)입니다.
-                Place place = placeService.savePlaceFromGoogle(sp.getPlaceId());
+        for (int i = 0; i < unmatchedPlaceIds.size(); i++) {
+            int[] pos = unmatchedPositions.get(i);
+            Deque<RoutePlace> candidates = movable.get(unmatchedPlaceIds.get(i));
+
+            if (candidates != null && !candidates.isEmpty()) {
+                RoutePlace rp = candidates.poll();
+                rp.setDayIndex(pos[0]);      // dirty checking → UPDATE
+                rp.setOrderIndex(pos[1]);
+            } else {
+                insertPositions.add(pos);
+                insertPlaceIds.add(unmatchedPlaceIds.get(i));
+            }
+        }
+
+        // 4) 어디에도 쓰이지 않은 기존 행은 DELETE 한 문장으로 삭제
+        List<Long> removedIds = movable.values().stream()
+                .flatMap(Deque::stream)
+                .map(RoutePlace::getId)
+                .collect(Collectors.toList());
+
+        if (!removedIds.isEmpty()) {
+            routePlaceRepository.deleteAllByIdInBatch(removedIds);
+        }
+
+        // 5) 새로 추가된 장소만 Place 조회 후 INSERT
+        if (!insertPlaceIds.isEmpty()) {
+            Map<String, Place> places = placeService.savePlacesFromGoogle(insertPlaceIds);
+
+            List<RoutePlace> inserted = new ArrayList<>(insertPlaceIds.size());
+            for (int i = 0; i < insertPlaceIds.size(); i++) {
+                Place place = places.get(insertPlaceIds.get(i));
+
+                RoutePlace rp = new RoutePlace();
+                rp.setRoute(route);
+                rp.setPlace(place);
+                rp.setPlaceName(place.getName());
+                rp.setDayIndex(insertPositions.get(i)[0]);
+                rp.setOrderIndex(insertPositions.get(i)[1]);
+                inserted.add(rp);
+            }
+            routePlaceRepository.saveAll(inserted);
+        }
+    }
+
+    /**
+     * 2차원 장소 목록 → RoutePlace 엔티티 목록
+     * 장소는 savePlacesFromGoogle로 한 번에 조회/저장한다. (장소마다 조회하지 않음)
+     */
+    private List<RoutePlace> buildRoutePlaces(Route route, List<List<RouteCreateRequestDto.SimplePlaceDto>> days) {
+
+        List<String> placeIds = days.stream()
+                .flatMap(List::stream)
+                .map(RouteCreateRequestDto.SimplePlaceDto::getPlaceId)
+                .collect(Collectors.toList());
+
+        Map<String, Place> places = placeService.savePlacesFromGoogle(placeIds);
+
+        List<RoutePlace> routePlaces = new ArrayList<>(placeIds.size());
+
+        int dayIndex = 1;
+        // day 변수: 해당 날짜에 방문할 장소들의 리스트 (List<SimplePlaceDto>)
+        for (List<RouteCreateRequestDto.SimplePlaceDto> day : days) {
+
+            int orderIndex = 1;
+            // [안쪽 for문]: 해당 날짜의 장소(Place)들을 순회합니다.
+            for (RouteCreateRequestDto.SimplePlaceDto sp : day) {
+
+                Place place = places.get(sp.getPlaceId());
 
                 RoutePlace rp = new RoutePlace();
                 rp.setRoute(route);
@@ -226,11 +358,250 @@ public class RouteService {
                 rp.setDayIndex(dayIndex);
                 rp.setOrderIndex(orderIndex);
 
-                routePlaceRepository.save(rp);
+                routePlaces.add(rp);
                 orderIndex++;
             }
             dayIndex++;
         }
+        return routePlaces;
+    }
+
+    /**
+     * 일정 부분 수정 (PATCH)
+     * 연산마다 영향받는 RoutePlace 행만 건드리고,
+     * 뒤쪽 장소들의 순서 밀기/당기기는 UPDATE 한 문장으로 처리한다.
+     * 새로 추가되는 장소만 Place 조회(필요 시 Google 호출)를 한다.
+     * orderIndex 가 그 일차의 끝을 넘으면 맨 뒤(max + 1)로 맞춘다. (순서 번호에 빈 칸이 생기지 않게)
+     * dayIndex 는 (그 연산 시점의 총 일수 + 1) 까지만 허용한다. (한 번에 하루씩만 늘어남)
+     *
+     * @return 연산 순서대로, INSERT 로 만들어진 routePlaceId (다른 연산은 null)
+     */
+    @Transactional
+    public List<Long> patchRoute(Long routeId, RoutePatchRequestDto dto) {
+
+        if (dto == null || dto.getOperations() == null || dto.getOperations().isEmpty()) {
+            throw new IllegalArgumentException("operations 가 비어 있습니다.");
+        }
+        for (RoutePatchRequestDto.Operation op : dto.getOperations()) {
+            validate(op);
+        }
+
+        Route route = routeRepository.findById(routeId)
+                .orElseThrow(() -> new IllegalArgumentException("Route not found id=" + routeId));
+
+        validateDays(route, dto.getOperations());
+
+        List<Long> created = new ArrayList<>(dto.getOperations().size());
+        for (RoutePatchRequestDto.Operation op : dto.getOperations()) {
+            Long routePlaceId = null;
+            switch (op.getType()) {
+                case INSERT -> routePlaceId = insertStop(route, op);
+                case MOVE -> moveStop(route, op);
+                case REMOVE -> removeStop(routeId, op);
+                case RETITLE -> route.setTitle(op.getTitle());   // dirty checking → UPDATE
+            }
+            created.add(routePlaceId);
+        }
+
+        eventPublisher.publishEvent(new RouteChangedEvent(routeId, RouteChangedEvent.Type.UPDATED));
+        return created;
+    }
+
+    /** 장소 추가: 들어갈 자리 뒤쪽을 한 칸씩 민 뒤 INSERT (새 routePlaceId 반환) */
+    private Long insertStop(Route route, RoutePatchRequestDto.Operation op) {
+
+        int day = requireDay(op);
+        int last = routePlaceRepository.findMaxOrderIndex(route.getId(), day) + 1;
+        int order = op.getOrderIndex() == null ? last : clamp(op.getOrderIndex(), last);
+
+        if (order < last) {
+            routePlaceRepository.shiftOrder(route.getId(), day, order, Integer.MAX_VALUE, 1);
+        }
+
+        Place place = placeService.savePlaceFromGoogle(op.getPlaceId());
+
+        RoutePlace rp = new RoutePlace();
+        rp.setRoute(route);
+        rp.setPlace(place);
+        rp.setPlaceName(place.getName());
+        rp.setDayIndex(day);
+        rp.setOrderIndex(order);
+        routePlaceRepository.save(rp);
+
+        extendDays(route, day);
+        return rp.getId();
+    }
+
+    /** 장소 이동: 같은 일차면 사이 구간만, 다른 일차면 양쪽 뒤쪽을 한 문장씩 이동 */
+    private void moveStop(Route route, RoutePatchRequestDto.Operation op) {
+
+        Long routeId = route.getId();
+        RoutePlacePosition from = findPosition(routeId, op.getRoutePlaceId());
+
+        int day = requireDay(op);
+        boolean sameDay = from.getDayIndex() == day;
+
+        // 같은 일차면 자기 자리를 빼므로 맨 뒤가 max, 다른 일차면 max + 1
+        int last = routePlaceRepository.findMaxOrderIndex(routeId, day) + (sameDay ? 0 : 1);
+        int order = op.getOrderIndex() == null ? last : clamp(op.getOrderIndex(), last);
+
+        if (sameDay) {
+            if (order == from.getOrderIndex()) {
+                return;
+            }
+            if (order < from.getOrderIndex()) {
+                routePlaceRepository.shiftOrder(routeId, day, order, from.getOrderIndex() - 1, 1);
+            } else {
+                routePlaceRepository.shiftOrder(routeId, day, from.getOrderIndex() + 1, order, -1);
+            }
+        } else {
+            routePlaceRepository.shiftOrder(routeId, from.getDayIndex(), from.getOrderIndex() + 1, Integer.MAX_VALUE, -1);
+            routePlaceRepository.shiftOrder(routeId, day, order, Integer.MAX_VALUE, 1);
+        }
+
+        routePlaceRepository.updatePosition(routeId, op.getRoutePlaceId(), day, order);
+        extendDays(route, day);
+    }
+
+    /** 장소 삭제: DELETE 후 뒤쪽 장소를 한 칸씩 당김 */
+    private void removeStop(Long routeId, RoutePatchRequestDto.Operation op) {
+
+        RoutePlacePosition pos = findPosition(routeId, op.getRoutePlaceId());
+
+        routePlaceRepository.deleteOne(routeId, op.getRoutePlaceId());
+        routePlaceRepository.shiftOrder(routeId, pos.getDayIndex(), pos.getOrderIndex() + 1, Integer.MAX_VALUE, -1);
+    }
+
+    private RoutePlacePosition findPosition(Long routeId, Long routePlaceId) {
+        return routePlaceRepository.findPosition(routeId, routePlaceId)
+                .orElseThrow(() -> new IllegalArgumentException("RoutePlace not found id=" + routePlaceId));
+    }
+
+    /** 연산별 필수 값 확인 (하나라도 잘못되면 아무것도 반영하지 않음) */
+    private void validate(RoutePatchRequestDto.Operation op) {
+        if (op == null || op.getType() == null) {
+            throw new IllegalArgumentException("연산 type 이 없습니다.");
+        }
+        switch (op.getType()) {
+            case INSERT -> {
+                requireDay(op);
+                if (op.getPlaceId() == null || op.getPlaceId().isBlank()) {
+                    throw new IllegalArgumentException("INSERT 에는 placeId 가 필요합니다.");
+                }
+            }
+            case MOVE -> {
+                requireDay(op);
+                requireRoutePlaceId(op);
+            }
+            case REMOVE -> requireRoutePlaceId(op);
+            case RETITLE -> {
+                if (op.getTitle() == null || op.getTitle().isBlank()) {
+                    throw new IllegalArgumentException("RETITLE 에는 title 이 필요합니다.");
+                }
+            }
+        }
+    }
+
+    /** 연산 순서대로 총 일수를 따라가며 dayIndex 가 (총 일수 + 1) 을 넘지 않는지 확인 (반영 전에 전부 확인) */
+    private static void validateDays(Route route, List<RoutePatchRequestDto.Operation> operations) {
+        int totalDays = route.getTotalDays();
+        for (RoutePatchRequestDto.Operation op : operations) {
+            if (op.getType() != RoutePatchRequestDto.OperationType.INSERT && op.getType() != RoutePatchRequestDto.OperationType.MOVE) {
+                continue;
+            }
+            if (op.getDayIndex() > totalDays + 1) {
+                throw new IllegalArgumentException("dayIndex 는 " + (totalDays + 1) + " 이하여야 합니다. dayIndex=" + op.getDayIndex());
+            }
+            totalDays = Math.max(totalDays, op.getDayIndex());
+        }
+    }
+
+    private void requireRoutePlaceId(RoutePatchRequestDto.Operation op) {
+        if (op.getRoutePlaceId() == null) {
+            throw new IllegalArgumentException("routePlaceId 가 필요합니다. type=" + op.getType());
+        }
+    }
+
+    /** 1 ~ last 범위로 맞춤 */
+    private static int clamp(int orderIndex, int last) {
+        return Math.min(Math.max(1, orderIndex), last);
+    }
+
+    private int requireDay(RoutePatchRequestDto.Operation op) {
+        if (op.getDayIndex() == null || op.getDayIndex() < 1) {
+            throw new IllegalArgumentException("dayIndex 는 1 이상이어야 합니다. type=" + op.getType());
+        }
+        return op.getDayIndex();
+    }
+
+    /** 새 일차에 장소가 들어가면 총 일수와 종료일을 함께 늘림 */
+    private void extendDays(Route route, int day) {
+        if (day > route.getTotalDays()) {
+            route.setTotalDays(day);
+            if (route.getStartDate() != null) {
+                route.setEndDate(route.getStartDate().plusDays(day - 1));
+            }
+        }
+    }
+
+    /**
+     * 일정 복제 ("이 일정 가져오기")
+     * 로그인한 회원 소유로 일정을 복사한다.
+     *
+     *  - Route: 원본 값을 복사해 저장 (요약은 커밋 후 RouteSummaryService 가 다시 계산)
+     *  - RoutePlace: DB 안에서 INSERT ... SELECT 로 복사 → Place 조회, Google 호출 없음
+     *  - id 는 시퀀스 블록(50개) 단위로 할당하므로 장소 50개마다 NEXTVAL 1번 + INSERT 한 문장
+     */
+    @Transactional
+    public Long cloneRoute(Long routeId, Principal principal) {
+
+        Route source = routeRepository.findById(routeId)
+                .orElseThrow(() -> new IllegalArgumentException("Route not found id=" + routeId));
+
+        TravelUser user = travelUserRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new IllegalArgumentException("회원 정보를 찾을 수 없습니다. email=" + principal.getName()));
+
+        Route copy = new Route();
+        copy.setUser(user);
+        copy.setTitle(source.getTitle());
+        copy.setStartDate(source.getStartDate());
+        copy.setEndDate(source.getEndDate());
+        copy.setTotalDays(source.getTotalDays());
+
+        // INSERT ... SELECT 전에 route 행이 있어야 하므로 바로 flush
+        Route saved = routeRepository.saveAndFlush(copy);
+
+        int count = routePlaceRepository.countByRouteId(routeId);
+        if (count > 0) {
+            List<Long> blocks = allocateIdBlocks((count + ROUTE_PLACE_ID_BLOCK - 1) / ROUTE_PLACE_ID_BLOCK);
+
+            for (int i = 0; i < blocks.size(); i++) {
+                routePlaceRepository.copyPlaces(routeId, saved.getId(),
+                        i * ROUTE_PLACE_ID_BLOCK + 1, blocks.get(i), ROUTE_PLACE_ID_BLOCK);
+            }
+        }
+
+        eventPublisher.publishEvent(new RouteChangedEvent(saved.getId(), RouteChangedEvent.Type.CREATED));
+        return saved.getId();
+    }
+
+    /**
+     * RoutePlace id 블록 count 개 할당 (블록 끝 값 목록)
+     *
+     * Hibernate pooled 할당과 같은 규칙을 따른다.
+     *  - 값 v 는 블록 [v - 49, v]
+     *  - 새 시퀀스의 첫 값(ROUTE_PLACE_ID_BLOCK 보다 작은 값)은 블록으로 쓰면 0 이하 id 가 생기므로 버리고 다시 할당
+     *    (Hibernate 도 이 값은 id 하나로만 쓰고 다음 값부터 블록으로 쓴다)
+     */
+    private List<Long> allocateIdBlocks(int count) {
+        List<Long> blocks = new ArrayList<>(count);
+        while (blocks.size() < count) {
+            long blockEnd = routePlaceRepository.allocateIdBlock();
+            if (blockEnd >= ROUTE_PLACE_ID_BLOCK) {
+                blocks.add(blockEnd);
+            }
+        }
+        return blocks;
     }
 
     /**
@@ -240,5 +611,7 @@ public class RouteService {
     public void deleteRoute(Long routeId) {
         routePlaceRepository.deleteByRouteId(routeId);
         routeRepository.deleteById(routeId);
+
+        eventPublisher.publishEvent(new RouteChangedEvent(routeId, RouteChangedEvent.Type.DELETED));
     }
 }
@@ -0,0 +1,229 @@
+package com.example.project.route.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.project.route.dto.RouteStopPoint;
+import com.example.project.route.repository.RoutePlaceRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RouteSimilarityIndex
+ * ---------------------------------------
+ * 방문 장소가 겹치는 "비슷한 일정" 인덱스 (MinHash + LSH, 메모리).
+ *
+ * MinHash:
+ *  - 일정의 장소 id 집합마다 해시 함수 HASHES 개의 최솟값(서명)을 보관
+ *  - 두 일정의 서명이 같은 위치의 비율 ≈ 장소 집합의 Jaccard 유사도
+ *
+ * LSH:
+ *  - 서명을 BANDS 개 구간(ROWS 개씩)으로 나누고, 구간 값이 같은 일정끼리 같은 버킷에 넣음
+ *  - 조회 시 같은 버킷을 하나라도 공유하는 일정만 후보로 비교 → 전체 일정과 비교하지 않음
+ *  - 16 × 4 기준으로 유사도 0.5 이면 약 64%, 0.7 이면 약 99% 확률로 후보에 포함된다.
+ *
+ * 갱신:
+ *  - RouteSummaryService 가 일정 저장 후 읽어온 장소로 update, 삭제 이벤트에서 remove
+ *  - 서버 시작 시 전체 장소로 구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RouteSimilarityIndex {
+
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+    private static final int HASHES = BANDS * ROWS;
+
+    private static final long[] SEEDS = new long[HASHES];
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < HASHES; i++) {
+            seed = mix(seed + i);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private final RoutePlaceRepository routePlaceRepository;
+
+    /** 버킷 키(구간 번호 + 구간 값) → 일정 id 집합 */
+    private final Map<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+
+    /** 일정 id → MinHash 서명 */
+    private final Map<Long, long[]> signatures = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+
+        Map<Long, Set<Long>> placesByRoute = new HashMap<>();
+        for (RouteStopPoint point : routePlaceRepository.findAllStopPoints()) {
+            placesByRoute.computeIfAbsent(point.getRouteId(), k -> new HashSet<>()).add(point.getPlaceId());
+        }
+
+        synchronized (this) {
+            placesByRoute.forEach((routeId, placeIds) -> {
+                if (!signatures.containsKey(routeId)) {
+                    put(routeId, signature(placeIds));
+                }
+            });
+        }
+        log.info("유사 일정 인덱스 구성 {}건, 버킷 {}개", signatures.size(), buckets.size());
+    }
+
+    /** 일정 장소 갱신 (장소가 없으면 제거) */
+    public synchronized void update(Long routeId, List<RouteStopPoint> points) {
+
+        removeBuckets(routeId);
+
+        Set<Long> placeIds = new HashSet<>();
+        for (RouteStopPoint point : points) {
+            placeIds.add(point.getPlaceId());
+        }
+        if (!placeIds.isEmpty()) {
+            put(routeId, signature(placeIds));
+        }
+    }
+
+    public synchronized void remove(Long routeId) {
+        removeBuckets(routeId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRouteChanged(RouteChangedEvent event) {
+        if (event.getType() == RouteChangedEvent.Type.DELETED) {
+            remove(event.getRouteId());
+        }
+    }
+
+    /**
+     * routeId 와 비슷한 일정 (추정 유사도 내림차순, 최대 limit 개)
+     */
+    public List<Match> findSimilar(Long routeId, int limit) {
+
+        long[] target = signatures.get(routeId);
+        if (target == null) {
+            return List.of();
+        }
+
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            Set<Long> ids = buckets.get(bucketKey(band, target));
+            if (ids != null) {
+                candidates.addAll(ids);
+            }
+        }
+        candidates.remove(routeId);
+
+        List<Match> matches = new ArrayList<>(candidates.size());
+        for (Long candidate : candidates) {
+            long[] sig = signatures.get(candidate);
+            if (sig == null) {
+                continue;
+            }
+            int same = 0;
+            for (int i = 0; i < HASHES; i++) {
+                if (sig[i] == target[i]) {
+                    same++;
+                }
+            }
+            matches.add(new Match(candidate, (double) same / HASHES));
+        }
+
+        matches.sort((a, b) -> a.similarity != b.similarity
+                ? Double.compare(b.similarity, a.similarity)
+                : Long.compare(b.routeId, a.routeId));
+
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    // ============================================================
+    // MinHash / LSH 계산
+    // ============================================================
+
+    private static long[] signature(Set<Long> placeIds) {
+        long[] sig = new long[HASHES];
+        Arrays.fill(sig, Long.MAX_VALUE);
+
+        for (Long placeId : placeIds) {
+            for (int i = 0; i < HASHES; i++) {
+                long h = mix(placeId ^ SEEDS[i]);
+                if (h < sig[i]) {
+                    sig[i] = h;
+                }
+            }
+        }
+        return sig;
+    }
+
+    /** 구간 band 의 서명 값(ROWS 개)을 하나의 버킷 키로 */
+    private static long bucketKey(int band, long[] sig) {
+        long h = band;
+        for (int r = 0; r < ROWS; r++) {
+            h = mix(h * 31 + sig[band * ROWS + r]);
+        }
+        return h;
+    }
+
+    /** 64bit 해시 혼합 (SplitMix64 finalizer) */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private void put(Long routeId, long[] sig) {
+        signatures.put(routeId, sig);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(bucketKey(band, sig), k -> ConcurrentHashMap.newKeySet()).add(routeId);
+        }
+    }
+
+    private void removeBuckets(Long routeId) {
+        long[] old = signatures.remove(routeId);
+        if (old == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            long key = bucketKey(band, old);
+            Set<Long> ids = buckets.get(key);
+            if (ids != null) {
+                ids.remove(routeId);
+                if (ids.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    /** 비슷한 일정 한 건 (추정 Jaccard 유사도) */
+    public static final class Match {
+        private final long routeId;
+        private final double similarity;
+
+        Match(long routeId, double similarity) {
+            this.routeId = routeId;
+            this.similarity = similarity;
+        }
+
+        public long getRouteId() {
+            return routeId;
+        }
+
+        public double getSimilarity() {
+            return similarity;
+        }
+    }
+}
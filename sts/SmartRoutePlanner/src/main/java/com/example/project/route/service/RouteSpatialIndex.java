@@ -0,0 +1,259 @@
+package com.example.project.route.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.project.global.util.GeoUtils;
+import com.example.project.route.dto.RouteStopPoint;
+import com.example.project.route.repository.RoutePlaceRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RouteSpatialIndex
+ * ---------------------------------------
+ * 일정 방문 지점 좌표에 대한 격자(grid) 공간 인덱스 (메모리).
+ *
+ * 구조:
+ *  - 위경도를 cell-degrees 크기 격자로 나누고, 격자 칸 → 그 칸에 장소가 있는 일정 id 집합
+ *  - 일정별 방문 지점 좌표를 함께 보관해 후보 일정의 실제 거리를 계산
+ *
+ * 조회:
+ *  - near: 반경을 덮는 격자 칸의 일정만 후보로 꺼낸 뒤 Haversine 으로 확인
+ *  - viewport: 화면 영역을 덮는 격자 칸의 일정 중 장소가 영역 안에 있는 일정
+ *
+ * 갱신:
+ *  - RouteSummaryService 가 일정 저장 후 좌표를 읽을 때 함께 update (추가 쿼리 없음)
+ *  - 일정 삭제 이벤트에서 remove, 서버 시작 시 전체 좌표로 구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RouteSpatialIndex {
+
+    private final RoutePlaceRepository routePlaceRepository;
+
+    @Value("${route.spatial.cell-degrees:0.05}")
+    private double cellDegrees;
+
+    /** 격자 칸 → 일정 id 집합 */
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    /** 일정 id → 방문 지점 좌표 */
+    private final Map<Long, IndexedRoute> routes = new ConcurrentHashMap<>();
+
+    /**
+     * 서버 시작 시 전체 일정 좌표로 인덱스 구성
+     * (그 사이 이벤트로 먼저 들어온 일정은 덮어쓰지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+
+        Map<Long, List<RouteStopPoint>> byRoute = new HashMap<>();
+        for (RouteStopPoint point : routePlaceRepository.findAllStopPoints()) {
+            byRoute.computeIfAbsent(point.getRouteId(), k -> new ArrayList<>()).add(point);
+        }
+
+        synchronized (this) {
+            byRoute.forEach((routeId, points) -> {
+                if (!routes.containsKey(routeId)) {
+                    put(routeId, points);
+                }
+            });
+        }
+        log.info("일정 공간 인덱스 구성 {}건, 격자 {}칸", routes.size(), cells.size());
+    }
+
+    /** 일정 좌표 갱신 (장소가 없으면 제거) */
+    public synchronized void update(Long routeId, List<RouteStopPoint> points) {
+        removeCells(routeId);
+        if (!points.isEmpty()) {
+            put(routeId, points);
+        }
+    }
+
+    public synchronized void remove(Long routeId) {
+        removeCells(routeId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRouteChanged(RouteChangedEvent event) {
+        if (event.getType() == RouteChangedEvent.Type.DELETED) {
+            remove(event.getRouteId());
+        }
+    }
+
+    // ============================================================
+    // 조회
+    // ============================================================
+
+    /**
+     * (lat, lng) 에서 radiusMeters 안에 장소가 하나라도 있는 일정 (가까운 순, 최대 limit 개)
+     */
+    public List<Long> findNear(double lat, double lng, double radiusMeters, int limit) {
+
+        double deltaLat = radiusMeters / 111000.0;
+        double deltaLng = radiusMeters / (111000.0 * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+
+        Set<Long> candidates = candidatesIn(lat - deltaLat, lng - deltaLng, lat + deltaLat, lng + deltaLng);
+
+        List<double[]> hits = new ArrayList<>();   // [routeId, distance]
+        for (Long routeId : candidates) {
+            IndexedRoute route = routes.get(routeId);
+            if (route == null) {
+                continue;
+            }
+            double best = Double.MAX_VALUE;
+            for (int i = 0; i < route.lats.length; i++) {
+                best = Math.min(best, GeoUtils.haversineMeters(lat, lng, route.lats[i], route.lngs[i]));
+            }
+            if (best <= radiusMeters) {
+                hits.add(new double[] { routeId, best });
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble((double[] h) -> h[1]).thenComparingDouble(h -> -h[0]));
+
+        List<Long> result = new ArrayList<>(Math.min(limit, hits.size()));
+        for (int i = 0; i < hits.size() && i < limit; i++) {
+            result.add((long) hits.get(i)[0]);
+        }
+        return result;
+    }
+
+    /**
+     * 화면 영역 안에 장소가 하나라도 있는 일정 (최신 일정 순, 최대 limit 개)
+     */
+    public List<Long> findInViewport(double minLat, double minLng, double maxLat, double maxLng, int limit) {
+
+        List<Long> hits = new ArrayList<>();
+        for (Long routeId : candidatesIn(minLat, minLng, maxLat, maxLng)) {
+            IndexedRoute route = routes.get(routeId);
+            if (route == null) {
+                continue;
+            }
+            for (int i = 0; i < route.lats.length; i++) {
+                if (route.lats[i] >= minLat && route.lats[i] <= maxLat
+                        && route.lngs[i] >= minLng && route.lngs[i] <= maxLng) {
+                    hits.add(routeId);
+                    break;
+                }
+            }
+        }
+
+        hits.sort(Comparator.reverseOrder());
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    public int size() {
+        return routes.size();
+    }
+
+    // ============================================================
+    // 격자 계산
+    // ============================================================
+
+    /** 영역을 덮는 격자 칸의 일정 id (칸 수가 인덱스 칸 수보다 많으면 인덱스 칸을 훑음) */
+    private Set<Long> candidatesIn(double minLat, double minLng, double maxLat, double maxLng) {
+
+        int lat0 = latCell(minLat), lat1 = latCell(maxLat);
+        int lng0 = lngCell(minLng), lng1 = lngCell(maxLng);
+
+        Set<Long> candidates = new HashSet<>();
+        long cellCount = (long) (lat1 - lat0 + 1) * (lng1 - lng0 + 1);
+
+        if (cellCount > cells.size()) {
+            cells.forEach((key, ids) -> {
+                int la = (int) (key >> 32), ln = (int) (long) key;
+                if (la >= lat0 && la <= lat1 && ln >= lng0 && ln <= lng1) {
+                    candidates.addAll(ids);
+                }
+            });
+            return candidates;
+        }
+
+        for (int la = lat0; la <= lat1; la++) {
+            for (int ln = lng0; ln <= lng1; ln++) {
+                Set<Long> ids = cells.get(cellKey(la, ln));
+                if (ids != null) {
+                    candidates.addAll(ids);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private void put(Long routeId, List<RouteStopPoint> points) {
+
+        double[] lats = new double[points.size()];
+        double[] lngs = new double[points.size()];
+        Set<Long> keys = new HashSet<>();
+
+        for (int i = 0; i < points.size(); i++) {
+            lats[i] = points.get(i).getLat();
+            lngs[i] = points.get(i).getLng();
+            keys.add(cellKey(latCell(lats[i]), lngCell(lngs[i])));
+        }
+
+        long[] cellKeys = keys.stream().mapToLong(Long::longValue).toArray();
+        routes.put(routeId, new IndexedRoute(lats, lngs, cellKeys));
+
+        for (long key : cellKeys) {
+            cells.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(routeId);
+        }
+    }
+
+    private void removeCells(Long routeId) {
+        IndexedRoute old = routes.remove(routeId);
+        if (old == null) {
+            return;
+        }
+        for (long key : old.cellKeys) {
+            Set<Long> ids = cells.get(key);
+            if (ids != null) {
+                ids.remove(routeId);
+                if (ids.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+    }
+
+    private int latCell(double lat) {
+        return (int) Math.floor((lat + 90) / cellDegrees);
+    }
+
+    private int lngCell(double lng) {
+        return (int) Math.floor((lng + 180) / cellDegrees);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    /** 인덱스에 보관하는 일정 좌표 */
+    private static final class IndexedRoute {
+        final double[] lats;
+        final double[] lngs;
+        final long[] cellKeys;
+
+        IndexedRoute(double[] lats, double[] lngs, long[] cellKeys) {
+            this.lats = lats;
+            this.lngs = lngs;
+            this.cellKeys = cellKeys;
+        }
+    }
+}
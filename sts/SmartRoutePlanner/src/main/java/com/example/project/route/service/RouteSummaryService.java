@@ -0,0 +1,213 @@
+package com.example.project.route.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.project.global.util.GeoUtils;
+import com.example.project.route.domain.Route;
+import com.example.project.route.domain.RouteDaySummary;
+import com.example.project.route.domain.RouteSummary;
+import com.example.project.route.dto.RouteStopPoint;
+import com.example.project.route.repository.RoutePlaceRepository;
+import com.example.project.route.repository.RouteRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RouteSummaryService
+ * ---------------------------------------
+ * 일정 저장(커밋) 후 요약 값을 백그라운드에서 계산해 Route 에 저장한다.
+ *
+ * 동작:
+ *  - RouteChangedEvent(AFTER_COMMIT) 를 받으면 routeSummaryExecutor 에 계산 작업을 넘김
+ *  - 같은 일정은 동시에 한 작업만 실행하고, 실행 중에 들어온 변경은 한 번으로 합쳐서 다시 계산
+ *    (늦게 끝난 이전 계산이 최신 결과를 덮어쓰지 않도록)
+ *  - 장소 id·좌표만 조회(findStopPoints)하므로 Place 엔티티를 읽지 않음
+ *  - route 는 요약 컬럼만 UPDATE (updateSummary) → 계산 중 커밋된 제목·날짜 등의 편집을 덮어쓰지 않음
+ *  - 저장 후 일정 상세 캐시를 비워 다음 조회에 요약이 포함되게 함
+ *  - 읽어온 장소로 공간 인덱스(RouteSpatialIndex), 유사 일정 인덱스(RouteSimilarityIndex)도 함께 갱신
+ *
+ * 예상 이동 시간:
+ *  - 직선 거리 × detour-factor 를 travel-speed-kmh 로 나눈 값 (기본: 도보 4.5km/h, 1.3배)
+ */
+@Slf4j
+@Service
+public class RouteSummaryService {
+
+    private final RouteRepository routeRepository;
+    private final RoutePlaceRepository routePlaceRepository;
+    private final RouteDetailCache routeDetailCache;
+    private final RouteSpatialIndex routeSpatialIndex;
+    private final RouteSimilarityIndex routeSimilarityIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor routeSummaryExecutor;
+
+    /** routeId → 재계산 필요 여부 (키가 있으면 작업이 예약/실행 중) */
+    private final ConcurrentHashMap<Long, Boolean> pending = new ConcurrentHashMap<>();
+
+    @Value("${route.summary.travel-speed-kmh:4.5}")
+    private double travelSpeedKmh;
+
+    @Value("${route.summary.detour-factor:1.3}")
+    private double detourFactor;
+
+    public RouteSummaryService(RouteRepository routeRepository,
+                               RoutePlaceRepository routePlaceRepository,
+                               RouteDetailCache routeDetailCache,
+                               RouteSpatialIndex routeSpatialIndex,
+                               RouteSimilarityIndex routeSimilarityIndex,
+                               PlatformTransactionManager transactionManager,
+                               @Qualifier("routeSummaryExecutor") ThreadPoolTaskExecutor routeSummaryExecutor) {
+        this.routeRepository = routeRepository;
+        this.routePlaceRepository = routePlaceRepository;
+        this.routeDetailCache = routeDetailCache;
+        this.routeSpatialIndex = routeSpatialIndex;
+        this.routeSimilarityIndex = routeSimilarityIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.routeSummaryExecutor = routeSummaryExecutor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRouteChanged(RouteChangedEvent event) {
+        if (event.getType() == RouteChangedEvent.Type.DELETED) {
+            return;
+        }
+        schedule(event.getRouteId());
+    }
+
+    /**
+     * 요약 재계산 예약 (이미 예약/실행 중이면 표시만 해두고 실행 중인 작업이 다시 계산)
+     */
+    public void schedule(Long routeId) {
+        if (pending.put(routeId, Boolean.TRUE) == null) {
+            routeSummaryExecutor.execute(() -> drain(routeId));
+        }
+    }
+
+    private void drain(Long routeId) {
+        try {
+            do {
+                pending.put(routeId, Boolean.FALSE);
+                recompute(routeId);
+            } while (!pending.remove(routeId, Boolean.FALSE));
+        } catch (RuntimeException e) {
+            pending.remove(routeId);
+            log.warn("일정 요약 계산 실패 routeId={}", routeId, e);
+        }
+    }
+
+    /**
+     * 일정 요약 계산 후 저장 (일정이 이미 삭제되었으면 무시)
+     */
+    public void recompute(Long routeId) {
+
+        List<RouteStopPoint> saved = transactionTemplate.execute(status -> {
+            Route route = routeRepository.findById(routeId).orElse(null);
+            if (route == null) {
+                return null;
+            }
+
+            List<RouteStopPoint> points = routePlaceRepository.findStopPoints(routeId);
+
+            int days = route.getTotalDays();
+            for (RouteStopPoint point : points) {
+                days = Math.max(days, point.getDayIndex());
+            }
+
+            List<RouteDaySummary> daySummaries = new ArrayList<>(days);
+            int from = 0;
+            for (int day = 1; day <= days; day++) {
+                int to = from;
+                while (to < points.size() && points.get(to).getDayIndex() == day) {
+                    to++;
+                }
+                daySummaries.add(new RouteDaySummary(day, summarize(points, from, to, true)));
+                from = to;
+            }
+
+            RouteSummary total = summarize(points, 0, points.size(), false);
+            double distance = 0;
+            for (RouteDaySummary day : daySummaries) {
+                distance += day.getSummary().getDistanceMeters();
+            }
+            total.setDistanceMeters(distance);
+            total.setTravelMinutes(travelMinutes(distance));
+
+            // route 는 요약 컬럼만 UPDATE (다른 컬럼은 쓰지 않으므로 그 사이 커밋된 편집을 덮어쓰지 않음)
+            // route_day_summary 는 컬렉션만 다시 저장 (Route 필드는 바꾸지 않으므로 route 행 UPDATE 없음)
+            route.getDaySummaries().clear();
+            route.getDaySummaries().addAll(daySummaries);
+            routeRepository.updateSummary(routeId, total, LocalDateTime.now());
+            return points;
+        });
+
+        if (saved != null) {
+            routeDetailCache.invalidate(routeId);
+            routeSpatialIndex.update(routeId, saved);
+            routeSimilarityIndex.update(routeId, saved);
+        }
+    }
+
+    /**
+     * points[from, to) 구간의 요약 (withDistance 가 false 면 거리는 호출한 쪽에서 채움)
+     */
+    private RouteSummary summarize(List<RouteStopPoint> points, int from, int to, boolean withDistance) {
+
+        RouteSummary summary = new RouteSummary();
+        summary.setStopCount(to - from);
+        summary.setDistanceMeters(0.0);
+        summary.setTravelMinutes(0);
+
+        if (from == to) {
+            return summary;
+        }
+
+        double minLat = Double.MAX_VALUE, minLng = Double.MAX_VALUE;
+        double maxLat = -Double.MAX_VALUE, maxLng = -Double.MAX_VALUE;
+        double sumLat = 0, sumLng = 0, distance = 0;
+
+        for (int i = from; i < to; i++) {
+            RouteStopPoint p = points.get(i);
+            minLat = Math.min(minLat, p.getLat());
+            minLng = Math.min(minLng, p.getLng());
+            maxLat = Math.max(maxLat, p.getLat());
+            maxLng = Math.max(maxLng, p.getLng());
+            sumLat += p.getLat();
+            sumLng += p.getLng();
+
+            if (withDistance && i > from) {
+                RouteStopPoint prev = points.get(i - 1);
+                distance += GeoUtils.haversineMeters(prev.getLat(), prev.getLng(), p.getLat(), p.getLng());
+            }
+        }
+
+        int count = to - from;
+        summary.setMinLat(minLat);
+        summary.setMinLng(minLng);
+        summary.setMaxLat(maxLat);
+        summary.setMaxLng(maxLng);
+        summary.setCenterLat(sumLat / count);
+        summary.setCenterLng(sumLng / count);
+
+        if (withDistance) {
+            summary.setDistanceMeters(distance);
+            summary.setTravelMinutes(travelMinutes(distance));
+        }
+        return summary;
+    }
+
+    private int travelMinutes(double distanceMeters) {
+        double metersPerMinute = travelSpeedKmh * 1000 / 60;
+        return (int) Math.round(distanceMeters * detourFactor / metersPerMinute);
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.project.route.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.project.member.dto.RouteLikeDailyCount;
+import com.example.project.member.repository.MemberLikeRouteRepository;
+import com.example.project.route.domain.RouteTrendingScore;
+import com.example.project.route.dto.RouteListItemDto;
+import com.example.project.route.repository.RouteTrendingScoreRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TrendingRouteService
+ * ---------------------------------------
+ * 시간 감쇠 좋아요 점수 기반 인기 일정 랭킹 (메모리).
+ *
+ * 점수:
+ *  - 좋아요 1개의 점수는 half-life 시간마다 절반으로 줄어든다.
+ *  - 모든 일정이 같은 비율로 감쇠하므로 기준 시각(anchor)의 값 2^((t - anchor) / halfLife) 를
+ *    더해 두기만 하면 순위가 유지된다. (시간이 지나도 전체를 다시 계산하지 않음)
+ *  - 좋아요 시각은 like_date(일 단위) 기준 → 좋아요 취소 시 같은 값을 빼면 정확히 상쇄된다.
+ *
+ * 구조:
+ *  - values: routeId → 점수, ranking: 점수 내림차순 정렬 집합
+ *  - 좋아요/취소는 O(log n), 피드 한 페이지는 O(offset + size)
+ *
+ * 체크포인트:
+ *  - checkpoint-ms 마다 현재 점수를 route_trending_score 에 저장, 서버 시작 시 읽어온다.
+ *  - 체크포인트가 없으면 MEMBER_LIKE_ROUTE 의 최근 좋아요로 초기 점수를 만든다.
+ *  - 체크포인트 때 기준 시각을 현재로 옮기고(값이 너무 커지지 않도록) 거의 0 인 항목은 버린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingRouteService {
+
+    /** 이 값보다 작은 점수(좋아요 환산)는 랭킹에서 제거 */
+    private static final double MIN_SCORE = 0.01;
+
+    private final RouteService routeService;
+    private final RouteTrendingScoreRepository trendingScoreRepository;
+    private final MemberLikeRouteRepository likeRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${route.trending.half-life-hours:72}")
+    private double halfLifeHours;
+
+    private final Map<Long, Double> values = new ConcurrentHashMap<>();
+    private volatile ConcurrentSkipListSet<Ranked> ranking = new ConcurrentSkipListSet<>(Ranked.ORDER);
+    private final Object lock = new Object();
+
+    private volatile long anchorMillis = System.currentTimeMillis();
+
+    // ============================================================
+    // 좋아요 / 취소 반영
+    // ============================================================
+
+    public void onLike(Long routeId, LocalDate likeDate) {
+        add(routeId, toMillis(likeDate), 1);
+    }
+
+    public void onUnlike(Long routeId, LocalDate likeDate) {
+        add(routeId, toMillis(likeDate), -1);
+    }
+
+    /** 삭제된 일정은 랭킹에서 제거 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRouteChanged(RouteChangedEvent event) {
+        if (event.getType() == RouteChangedEvent.Type.DELETED) {
+            synchronized (lock) {
+                Double old = values.remove(event.getRouteId());
+                if (old != null) {
+                    ranking.remove(new Ranked(event.getRouteId(), old));
+                }
+            }
+        }
+    }
+
+    /** 가중치는 잠금 안에서 계산 (체크포인트가 기준 시각을 옮기는 중간에 옛 기준으로 더하지 않도록) */
+    private void add(Long routeId, long likeMillis, int sign) {
+        synchronized (lock) {
+            double delta = sign * weight(likeMillis);
+            Double old = values.get(routeId);
+            double value = (old != null ? old : 0) + delta;
+
+            if (old != null) {
+                ranking.remove(new Ranked(routeId, old));
+            }
+            if (value * decayToNow() < MIN_SCORE) {
+                values.remove(routeId);
+            } else {
+                values.put(routeId, value);
+                ranking.add(new Ranked(routeId, value));
+            }
+        }
+    }
+
+    // ============================================================
+    // 피드 조회
+    // ============================================================
+
+    /**
+     * 인기 일정 한 페이지 (점수 내림차순)
+     * 랭킹에서 id 만 꺼낸 뒤 목록 정보는 쿼리 한 번으로 조회
+     */
+    public List<RouteListItemDto> getTrending(int page, int size) {
+
+        List<Long> ids = new ArrayList<>(size);
+        Iterator<Ranked> it = ranking.iterator();
+
+        for (int skip = page * size; skip > 0 && it.hasNext(); skip--) {
+            it.next();
+        }
+        while (ids.size() < size && it.hasNext()) {
+            ids.add(it.next().routeId);
+        }
+        return routeService.getListItems(ids);
+    }
+
+    // ============================================================
+    // 체크포인트
+    // ============================================================
+
+    /**
+     * 기준 시각을 현재로 옮기고, 작은 점수를 버린 뒤 전체를 저장
+     */
+    @Scheduled(fixedDelayString = "${route.trending.checkpoint-ms:60000}",
+               initialDelayString = "${route.trending.checkpoint-ms:60000}")
+    @Transactional
+    public void checkpoint() {
+
+        long now = System.currentTimeMillis();
+        Map<Long, Double> snapshot;
+        synchronized (lock) {
+            double factor = Math.pow(2, (anchorMillis - now) / halfLifeMillis());
+
+            values.replaceAll((id, v) -> v * factor);
+            values.values().removeIf(v -> v < MIN_SCORE);
+            ranking = rebuildRanking();   // 조회 중인 피드는 이전 랭킹을 그대로 읽음
+            anchorMillis = now;
+
+            snapshot = new HashMap<>(values);
+        }
+
+        Timestamp checkpointAt = new Timestamp(now);
+        List<Object[]> rows = snapshot.entrySet().stream()
+                .map(e -> new Object[] { e.getKey(), e.getValue(), checkpointAt })
+                .collect(Collectors.toList());
+
+        jdbcTemplate.update("DELETE FROM route_trending_score");
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO route_trending_score (route_id, score, checkpoint_at) VALUES (?, ?, ?)", rows);
+    }
+
+    /**
+     * 서버 시작 시 체크포인트(없으면 최근 좋아요)로 랭킹 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+
+        long now = System.currentTimeMillis();
+        List<RouteTrendingScore> saved = trendingScoreRepository.findAll();
+
+        synchronized (lock) {
+            anchorMillis = now;
+
+            if (!saved.isEmpty()) {
+                for (RouteTrendingScore row : saved) {
+                    double value = row.getScore() * weight(toMillis(row.getCheckpointAt()));
+                    values.merge(row.getRouteId(), value, Double::sum);
+                }
+            } else {
+                long window = (long) Math.ceil(halfLifeHours * 10 / 24);   // 반감기 10번이면 1/1024 이하
+                for (RouteLikeDailyCount c : likeRepository.countDailyLikesSince(LocalDate.now().minusDays(window))) {
+                    double value = c.getLikeCount() * weight(toMillis(c.getLikeDate()));
+                    values.merge(c.getRouteId(), value, Double::sum);
+                }
+            }
+
+            values.values().removeIf(v -> v < MIN_SCORE);
+            ranking = rebuildRanking();
+        }
+        log.info("인기 일정 랭킹 복원 {}건 (checkpoint={})", values.size(), !saved.isEmpty());
+    }
+
+    // ============================================================
+    // 계산 도우미
+    // ============================================================
+
+    private ConcurrentSkipListSet<Ranked> rebuildRanking() {
+        ConcurrentSkipListSet<Ranked> rebuilt = new ConcurrentSkipListSet<>(Ranked.ORDER);
+        values.forEach((id, v) -> rebuilt.add(new Ranked(id, v)));
+        return rebuilt;
+    }
+
+    /** 기준 시각 대비 시각 t 의 가중치 */
+    private double weight(long epochMillis) {
+        return Math.pow(2, (epochMillis - anchorMillis) / halfLifeMillis());
+    }
+
+    /** 저장된 값 → 현재 시각 점수로 바꾸는 배율 */
+    private double decayToNow() {
+        return Math.pow(2, (anchorMillis - System.currentTimeMillis()) / halfLifeMillis());
+    }
+
+    private double halfLifeMillis() {
+        return halfLifeHours * 3600_000;
+    }
+
+    private static long toMillis(LocalDate date) {
+        return date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /** 랭킹 항목 (점수 내림차순, 같은 점수면 routeId 오름차순) */
+    private static final class Ranked {
+
+        static final Comparator<Ranked> ORDER = Comparator
+                .comparingDouble((Ranked r) -> r.value).reversed()
+                .thenComparingLong(r -> r.routeId);
+
+        final long routeId;
+        final double value;
+
+        Ranked(long routeId, double value) {
+            this.routeId = routeId;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.project.security.config;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.example.project.member.domain.TravelUser;
+import com.example.project.security.token.TokenRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * WebSocket 핸드셰이크 인증
+ * ---------------------------------------
+ * 브라우저 WebSocket 은 Authorization 헤더를 보낼 수 없으므로 ?token= 의 JWT 를 검사한다.
+ * (검사 내용은 JwtAuthenticationFilter 와 동일: 서명/만료 + 저장된 토큰의 만료·폐기 여부)
+ *
+ * 통과하면 세션 속성에 memberId, email 을 넣는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+  public static final String ATTR_MEMBER_ID = "memberId";
+  public static final String ATTR_EMAIL = "email";
+
+  private final JwtService jwtService;
+  private final UserDetailsService userDetailsService;
+  private final TokenRepository tokenRepository;
+
+  @Override
+  public boolean beforeHandshake(
+      @NonNull ServerHttpRequest request,
+      @NonNull ServerHttpResponse response,
+      @NonNull WebSocketHandler wsHandler,
+      @NonNull Map<String, Object> attributes
+  ) {
+    String jwt = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst("token");
+
+    if (jwt == null || jwt.isBlank()) {
+      response.setStatusCode(HttpStatus.UNAUTHORIZED);
+      return false;
+    }
+
+    try {
+      String userEmail = jwtService.extractUsername(jwt);
+      TravelUser user = (TravelUser) userDetailsService.loadUserByUsername(userEmail);
+
+      boolean isTokenValid = tokenRepository.findByToken(jwt)
+          .map(t -> !t.isExpired() && !t.isRevoked())
+          .orElse(false);
+
+      if (!jwtService.isTokenValid(jwt, user) || !isTokenValid) {
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        return false;
+      }
+
+      attributes.put(ATTR_MEMBER_ID, user.getId());
+      attributes.put(ATTR_EMAIL, user.getEmail());
+      return true;
+
+    } catch (Exception e) {
+      // 만료, 서명 오류, 없는 회원
+      log.debug("WebSocket 인증 실패: {}", e.getMessage());
+      response.setStatusCode(HttpStatus.UNAUTHORIZED);
+      return false;
+    }
+  }
+
+  @Override
+  public void afterHandshake(
+      @NonNull ServerHttpRequest request,
+      @NonNull ServerHttpResponse response,
+      @NonNull WebSocketHandler wsHandler,
+      Exception exception
+  ) {
+  }
+}
@@ -14,6 +14,8 @@ import static org.springframework.http.HttpMethod.DELETE;
 import static org.springframework.http.HttpMethod.GET;
 import static org.springframework.http.HttpMethod.POST;
 import static org.springframework.http.HttpMethod.PUT;
+import static jakarta.servlet.DispatcherType.ASYNC;
+import static jakarta.servlet.DispatcherType.ERROR;
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
 import org.springframework.context.annotation.Bean;
@@ -27,6 +29,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import lombok.RequiredArgsConstructor;
 
@@ -48,6 +53,12 @@ public class SecurityConfiguration {
             "/swagger-ui/**",
             "/webjars/**",
             "/swagger-ui.html"};
+
+    /** 구간 경로(Google 호출)를 포함한 내보내기: GET /api/route/{routeId}/export?legs=true */
+    private static final RequestMatcher EXPORT_WITH_LEGS = new AndRequestMatcher(
+            AntPathRequestMatcher.antMatcher(GET, "/api/route/*/export"),
+            request -> Boolean.parseBoolean(request.getParameter("legs")));
+
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final AuthenticationProvider authenticationProvider;
     private final LogoutHandler logoutHandler;
@@ -57,9 +68,15 @@ public class SecurityConfiguration {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(req ->
-                        req.requestMatchers(WHITE_LIST_URL)
+                        req.dispatcherTypeMatchers(ASYNC, ERROR).permitAll() // SSE 완료/타임아웃 재디스패치 (JWT 필터는 최초 요청에서만 실행)
+                                .requestMatchers(WHITE_LIST_URL)
                                 .permitAll()
+                                .requestMatchers("/api/route/generate/**").authenticated() // AI 생성 작업은 요청한 회원만 조회
+                                .requestMatchers(GET, "/api/route/*/legs").authenticated() // Google 구간 조회(유료)는 로그인 회원만
+                                .requestMatchers(EXPORT_WITH_LEGS).authenticated()
+                                .requestMatchers(GET, "/api/route/*/bundle").authenticated() // 새 버전마다 구간 조회(Google)
                                 .requestMatchers(GET, "/api/route/**").permitAll()
+                                .requestMatchers("/ws/**").permitAll() // WebSocket: 핸드셰이크에서 ?token= 으로 인증 (JwtHandshakeInterceptor)
                                 .requestMatchers("/", "/index.html", "/login.html", "/register.html").permitAll() // ★ HTML 페이지 접근 허용
                                 .requestMatchers("/css/**", "/js/**").permitAll() // 정적 자원 허용
                                 .anyRequest()
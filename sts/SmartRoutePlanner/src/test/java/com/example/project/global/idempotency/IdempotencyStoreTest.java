@@ -0,0 +1,167 @@
+package com.example.project.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.project.global.exception.IdempotencyKeyReusedException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 같은 키의 재시도가 첫 결과를 기다렸다 받는지(wait / replay), 실패는 보관하지 않는지,
+ * 실행 중인 항목이 있어도 max-size 를 넘지 않는지 확인한다.
+ */
+class IdempotencyStoreTest {
+
+    private static final String SCOPE = "route:create:user";
+
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(new ObjectMapper());
+        ReflectionTestUtils.setField(store, "maxSize", 2);
+        ReflectionTestUtils.setField(store, "ttlMinutes", 60L);
+        ReflectionTestUtils.setField(store, "waitSeconds", 5L);
+    }
+
+    @Test
+    void sameKey_replaysFirstResultWithoutRunningAgain() {
+        AtomicInteger runs = new AtomicInteger();
+
+        Long first = store.execute("k1", SCOPE, "body", () -> (long) runs.incrementAndGet());
+        Long second = store.execute("k1", SCOPE, "body", () -> (long) runs.incrementAndGet());
+
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isEqualTo(1L);
+        assertThat(runs).hasValue(1);
+
+        // 다른 scope 의 같은 키는 별개
+        assertThat(store.execute("k1", "route:create:other", "body", () -> (long) runs.incrementAndGet())).isEqualTo(2L);
+    }
+
+    @Test
+    void sameKeyWithDifferentBody_isRejected() {
+        store.execute("k1", SCOPE, "body", () -> 1L);
+
+        assertThatThrownBy(() -> store.execute("k1", SCOPE, "other body", () -> 2L))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @Test
+    void retryDuringExecution_waitsForFirstResult() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(() -> store.execute("k1", SCOPE, "body", () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            await(release);
+            return 7L;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Long> retry = CompletableFuture.supplyAsync(() -> store.execute("k1", SCOPE, "body", () -> {
+            runs.incrementAndGet();
+            return 8L;
+        }));
+        assertThat(retry).isNotDone();
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(7L);
+        assertThat(retry.get(5, TimeUnit.SECONDS)).isEqualTo(7L);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void failure_isPassedToWaiterAndNotKept() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(() -> store.execute("k1", SCOPE, "body", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalArgumentException("boom");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 첫 실행 결과를 기다리는 중인 것을 확인한 뒤 실패시킴
+        AtomicReference<Throwable> waiterError = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                store.execute("k1", SCOPE, "body", () -> 9L);
+            } catch (RuntimeException e) {
+                waiterError.set(e);
+            }
+        });
+        waiter.start();
+        while (waiter.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        waiter.join(5000);
+        assertThat(waiterError.get()).isInstanceOf(IllegalArgumentException.class);
+
+        // 실패는 보관하지 않음 → 재시도하면 다시 실행
+        assertThat(store.execute("k1", SCOPE, "body", () -> 10L)).isEqualTo(10L);
+    }
+
+    @Test
+    void inFlightEldest_doesNotLetStoreGrowPastMaxSize() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Long> inFlight = CompletableFuture.supplyAsync(() -> store.execute("a", SCOPE, "body", () -> {
+            started.countDown();
+            await(release);
+            return 1L;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (String key : new String[] {"b", "c", "d", "e"}) {
+            store.execute(key, SCOPE, "body", () -> 2L);
+            assertThat(entries()).hasSizeLessThanOrEqualTo(2);
+        }
+        assertThat(entries()).containsKeys(SCOPE + ":a", SCOPE + ":e");
+
+        // 실행 중이던 항목이 끝나면 그 항목도 제거 대상
+        release.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+        store.execute("f", SCOPE, "body", () -> 3L);
+
+        assertThat(entries()).containsOnlyKeys(SCOPE + ":e", SCOPE + ":f");
+    }
+
+    // ============================================================
+    // 내부
+    // ============================================================
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> entries() {
+        Map<String, ?> entries = (Map<String, ?>) ReflectionTestUtils.getField(store, "entries");
+        synchronized (entries) {
+            return Map.copyOf(entries);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.project.global.maps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Encoded Polyline 인코딩/디코딩 왕복과 잘린 문자열 처리를 확인한다.
+ */
+class PolylineCodecTest {
+
+    /** Google 문서 예시: (38.5, -120.2), (40.7, -120.95), (43.252, -126.453) */
+    private static final String GOOGLE_EXAMPLE = "_p~iF~ps|U_ulLnnqC_mqNvxq`@";
+
+    @Test
+    void decode_googleExample() {
+        PointBuffer points = new PointBuffer();
+        PolylineCodec.decode(GOOGLE_EXAMPLE, points, false);
+
+        assertThat(points.size()).isEqualTo(3);
+        assertThat(points.lat(0)).isEqualTo(3850000);
+        assertThat(points.lng(0)).isEqualTo(-12020000);
+        assertThat(points.lat(2)).isEqualTo(4325200);
+        assertThat(points.lng(2)).isEqualTo(-12645300);
+    }
+
+    @Test
+    void encodeDecode_roundTrip() {
+        PointBuffer points = new PointBuffer();
+        points.add(3756650, 12697800);
+        points.add(3756651, 12697799);
+        points.add(-3386880, 15120930);
+        points.add(0, 0);
+        points.add(8999999, -17999999);
+
+        PointBuffer decoded = new PointBuffer();
+        PolylineCodec.decode(PolylineCodec.encode(points, null), decoded, false);
+
+        assertThat(decoded.size()).isEqualTo(points.size());
+        for (int i = 0; i < points.size(); i++) {
+            assertThat(decoded.lat(i)).isEqualTo(points.lat(i));
+            assertThat(decoded.lng(i)).isEqualTo(points.lng(i));
+        }
+    }
+
+    @Test
+    void encode_onlyKeptPoints() {
+        PointBuffer points = new PointBuffer();
+        points.add(100, 200);
+        points.add(300, 400);
+        points.add(500, 600);
+
+        PointBuffer decoded = new PointBuffer();
+        PolylineCodec.decode(PolylineCodec.encode(points, new boolean[] { true, false, true }), decoded, false);
+
+        assertThat(decoded.size()).isEqualTo(2);
+        assertThat(decoded.lat(1)).isEqualTo(500);
+        assertThat(decoded.lng(1)).isEqualTo(600);
+    }
+
+    @Test
+    void decode_skipsDuplicateStart() {
+        PointBuffer out = new PointBuffer();
+        out.add(3850000, -12020000);
+
+        PolylineCodec.decode(GOOGLE_EXAMPLE, out, true);
+
+        assertThat(out.size()).isEqualTo(3);
+    }
+
+    @Test
+    void decode_truncatedStopsAtLastCompletePoint() {
+        // 두 번째 점의 위도 값까지만 있고 경도 값이 없음
+        String truncated = GOOGLE_EXAMPLE.substring(0, "_p~iF~ps|U_ulL".length());
+
+        PointBuffer points = new PointBuffer();
+        PolylineCodec.decode(truncated, points, false);
+
+        assertThat(points.size()).isEqualTo(1);
+        assertThat(points.lat(0)).isEqualTo(3850000);
+    }
+
+    @Test
+    void decode_valueCutMidChunkOrInvalidChar() {
+        PointBuffer points = new PointBuffer();
+        PolylineCodec.decode("_p~iF~ps|U_", points, false);
+        assertThat(points.size()).isEqualTo(1);
+
+        points.clear();
+        PolylineCodec.decode("_p~iF~ps|U\u0001\u0001", points, false);
+        assertThat(points.size()).isEqualTo(1);
+    }
+}
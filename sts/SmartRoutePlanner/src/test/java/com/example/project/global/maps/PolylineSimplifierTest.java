@@ -0,0 +1,93 @@
+package com.example.project.global.maps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Douglas–Peucker 단순화 결과를 확인한다.
+ */
+class PolylineSimplifierTest {
+
+    @Test
+    void straightLine_keepsOnlyEnds() {
+        PointBuffer points = new PointBuffer();
+        for (int i = 0; i <= 100; i++) {
+            points.add(3750000 + i * 10, 12700000);
+        }
+
+        boolean[] keep = PolylineSimplifier.simplify(points, 1);
+
+        assertThat(countKept(keep)).isEqualTo(2);
+        assertThat(keep[0]).isTrue();
+        assertThat(keep[100]).isTrue();
+    }
+
+    @Test
+    void corner_isKeptAboveTolerance() {
+        // 약 1.1km 동쪽으로 갔다가 약 1.1km 북쪽으로 꺾임
+        PointBuffer points = new PointBuffer();
+        points.add(3750000, 12700000);
+        points.add(3750000, 12701000);
+        points.add(3751000, 12701000);
+
+        boolean[] keep = PolylineSimplifier.simplify(points, 50);
+
+        assertThat(keep).containsExactly(true, true, true);
+    }
+
+    @Test
+    void smallWiggle_isDroppedWithinTolerance() {
+        // 가운데 점이 직선에서 약 1m 벗어남
+        PointBuffer points = new PointBuffer();
+        points.add(3750000, 12700000);
+        points.add(3750001, 12700500);
+        points.add(3750000, 12701000);
+
+        boolean[] keep = PolylineSimplifier.simplify(points, 5);
+
+        assertThat(keep).containsExactly(true, false, true);
+    }
+
+    @Test
+    void simplifiedPolyline_roundTripsThroughCodec() {
+        PointBuffer points = new PointBuffer();
+        for (int i = 0; i < 200; i++) {
+            points.add(3750000 + i * 5, 12700000 + (i % 20 < 10 ? i % 20 : 20 - i % 20) * 40);
+        }
+
+        boolean[] keep = PolylineSimplifier.simplify(points, 2);
+        PointBuffer decoded = new PointBuffer();
+        PolylineCodec.decode(PolylineCodec.encode(points, keep), decoded, false);
+
+        assertThat(decoded.size()).isEqualTo(countKept(keep));
+        int j = 0;
+        for (int i = 0; i < points.size(); i++) {
+            if (keep[i]) {
+                assertThat(decoded.lat(j)).isEqualTo(points.lat(i));
+                assertThat(decoded.lng(j)).isEqualTo(points.lng(i));
+                j++;
+            }
+        }
+    }
+
+    @Test
+    void zeroTolerance_keepsAll() {
+        PointBuffer points = new PointBuffer();
+        points.add(1, 1);
+        points.add(2, 2);
+        points.add(3, 3);
+
+        assertThat(PolylineSimplifier.simplify(points, 0)).containsExactly(true, true, true);
+    }
+
+    private static int countKept(boolean[] keep) {
+        int n = 0;
+        for (boolean k : keep) {
+            if (k) {
+                n++;
+            }
+        }
+        return n;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.project.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 배열 ↔ 비트맵 컨테이너 전환 경계와 상위 비트(2^16, 2^32 이상) id 를 확인한다.
+ */
+class RoaringIdSetTest {
+
+    @Test
+    void addRemoveContains_basic() {
+        RoaringIdSet set = new RoaringIdSet();
+
+        assertThat(set.add(7)).isTrue();
+        assertThat(set.add(7)).isFalse();
+        assertThat(set.add(3)).isTrue();
+
+        assertThat(set.contains(3)).isTrue();
+        assertThat(set.contains(7)).isTrue();
+        assertThat(set.contains(5)).isFalse();
+        assertThat(set.size()).isEqualTo(2);
+
+        assertThat(set.remove(7)).isTrue();
+        assertThat(set.remove(7)).isFalse();
+        assertThat(set.contains(7)).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    void arrayLimit_4096thAnd4097thElement() {
+        RoaringIdSet set = new RoaringIdSet();
+
+        // 짝수만 4096개 → 배열 한도까지
+        for (int i = 0; i < 4096; i++) {
+            assertThat(set.add(i * 2L)).isTrue();
+        }
+        assertThat(set.size()).isEqualTo(4096);
+        assertThat(set.add(0)).isFalse();
+
+        // 4097번째 → 비트맵으로 전환
+        assertThat(set.add(1)).isTrue();
+        assertThat(set.add(1)).isFalse();
+        assertThat(set.size()).isEqualTo(4097);
+
+        for (int i = 0; i < 8192; i++) {
+            assertThat(set.contains(i)).as("id %d", i).isEqualTo(i % 2 == 0 || i == 1);
+        }
+        assertThat(set.contains(8192)).isFalse();
+    }
+
+    @Test
+    void removal_convertsBackToArrayWithoutLosingIds() {
+        RoaringIdSet set = new RoaringIdSet();
+        for (int i = 0; i < 5000; i++) {
+            set.add(i * 13L % 65536);
+        }
+        assertThat(set.size()).isEqualTo(5000);
+
+        // 2048 개 이하로 줄이면 배열로 돌아감 → 남은 id 는 그대로, 지운 id 는 없음
+        for (int i = 0; i < 3000; i++) {
+            assertThat(set.remove(i * 13L % 65536)).isTrue();
+        }
+        assertThat(set.size()).isEqualTo(2000);
+
+        for (int i = 0; i < 5000; i++) {
+            assertThat(set.contains(i * 13L % 65536)).as("i %d", i).isEqualTo(i >= 3000);
+        }
+
+        // 배열 모드에서 다시 추가 / 삭제
+        assertThat(set.add(0)).isTrue();
+        assertThat(set.remove(3000 * 13L % 65536)).isTrue();
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.size()).isEqualTo(2000);
+    }
+
+    @Test
+    void removal_downToEmpty_andReuse() {
+        RoaringIdSet set = new RoaringIdSet();
+        for (long id = 0; id < 4100; id++) {
+            set.add(id);
+        }
+        for (long id = 0; id < 4100; id++) {
+            assertThat(set.remove(id)).isTrue();
+        }
+        assertThat(set.size()).isZero();
+        assertThat(set.contains(0)).isFalse();
+
+        assertThat(set.add(4099)).isTrue();
+        assertThat(set.contains(4099)).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    void idsAbove2Pow16_areKeptInSeparateContainers() {
+        RoaringIdSet set = new RoaringIdSet();
+        long base = 1L << 16;
+
+        set.add(5);
+        set.add(base - 1);
+        set.add(base);
+        set.add(base + 5);
+
+        assertThat(set.contains(5)).isTrue();
+        assertThat(set.contains(base - 1)).isTrue();
+        assertThat(set.contains(base)).isTrue();
+        assertThat(set.contains(base + 5)).isTrue();
+        assertThat(set.contains(base + 4)).isFalse();
+        assertThat(set.contains(2 * base + 5)).isFalse();
+
+        // 하위 16비트가 같아도 다른 id
+        assertThat(set.remove(base + 5)).isTrue();
+        assertThat(set.contains(5)).isTrue();
+        assertThat(set.size()).isEqualTo(3);
+    }
+
+    @Test
+    void idsAbove2Pow32_doNotCollideWithSmallIds() {
+        RoaringIdSet set = new RoaringIdSet();
+        long base = 1L << 32;
+
+        set.add(42);
+        set.add(base + 42);
+        set.add(base - 1);
+        set.add(Long.MAX_VALUE);
+
+        assertThat(set.contains(42)).isTrue();
+        assertThat(set.contains(base + 42)).isTrue();
+        assertThat(set.contains(base - 1)).isTrue();
+        assertThat(set.contains(base)).isFalse();
+        assertThat(set.contains(Long.MAX_VALUE)).isTrue();
+        assertThat(set.contains(Long.MAX_VALUE - 1)).isFalse();
+        assertThat(set.size()).isEqualTo(4);
+
+        assertThat(set.remove(42)).isTrue();
+        assertThat(set.contains(base + 42)).isTrue();
+        assertThat(set.size()).isEqualTo(3);
+    }
+}
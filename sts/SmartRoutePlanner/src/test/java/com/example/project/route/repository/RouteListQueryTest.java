@@ -0,0 +1,104 @@
+package com.example.project.route.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.project.member.domain.TravelUser;
+import com.example.project.place.domain.Place;
+import com.example.project.route.domain.Route;
+import com.example.project.route.domain.RoutePlace;
+import com.example.project.route.dto.RouteListItemDto;
+
+/**
+ * 회원 일정 목록이 일정 수와 상관없이 쿼리 1번으로 조회되는지 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class RouteListQueryTest {
+
+    @Autowired
+    private RouteRepository routeRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void findListItemsByMember_singleQuery() {
+
+        TravelUser user = em.persist(TravelUser.builder()
+                .email("list@test.com")
+                .nickname("list")
+                .password("pw")
+                .build());
+
+        List<Long> routeIds = new ArrayList<>();
+        for (int r = 0; r < 5; r++) {
+            Route route = new Route();
+            route.setUser(user);
+            route.setTitle("route-" + r);
+            route.setTotalDays(2);
+            em.persist(route);
+            routeIds.add(route.getId());
+
+            // 2일차 1번 → 1일차 2번 → 1일차 1번 순서로 저장 (첫 장소는 1일차 1번)
+            addStop(route, "second-day-" + r, 2, 1);
+            addStop(route, "first-day-2nd-" + r, 1, 2);
+            addStop(route, "first-" + r, 1, 1);
+        }
+
+        // 장소가 없는 일정
+        Route empty = new Route();
+        empty.setUser(user);
+        empty.setTitle("empty");
+        em.persist(empty);
+
+        em.flush();
+        em.clear();
+
+        Statistics stats = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        List<RouteListItemDto> items =
+                routeRepository.findListItemsByMember(user.getId(), 0L, PageRequest.of(0, 100));
+
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(items).hasSize(6);
+        assertThat(items.get(0).getMainPlaceName()).isEqualTo("first-0");
+        assertThat(items.get(0).getPhotoUrl()).isEqualTo("photo-first-0");
+        assertThat(items.get(5).getMainPlaceName()).isEqualTo("장소 없음");
+
+        // keyset 페이지: 두 번째 일정 다음부터 2개
+        List<RouteListItemDto> page =
+                routeRepository.findListItemsByMember(user.getId(), routeIds.get(1), PageRequest.of(0, 2));
+
+        assertThat(page).extracting(RouteListItemDto::getRouteId)
+                .containsExactly(routeIds.get(2), routeIds.get(3));
+    }
+
+    private void addStop(Route route, String name, int dayIndex, int orderIndex) {
+        Place place = new Place();
+        place.setGooglePlaceId(name);
+        place.setName(name);
+        // 대표 사진은 첫 번째 사진 (사전순으로 가장 앞선 값이 아님)
+        place.setPhotoReferences(List.of("photo-" + name, "a-photo-" + name));
+        em.persist(place);
+
+        RoutePlace rp = new RoutePlace();
+        rp.setRoute(route);
+        rp.setPlace(place);
+        rp.setPlaceName(name);
+        rp.setDayIndex(dayIndex);
+        rp.setOrderIndex(orderIndex);
+        em.persist(rp);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.project.route.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.project.global.config.JpaConfig;
+import com.example.project.member.domain.TravelUser;
+import com.example.project.place.domain.Place;
+import com.example.project.place.service.GooglePlacesClient;
+import com.example.project.place.service.PlaceService;
+import com.example.project.route.domain.Route;
+import com.example.project.route.domain.RoutePlace;
+
+/**
+ * 일정 복제(INSERT ... SELECT, 시퀀스 블록 id)를 확인한다.
+ * 새 시퀀스(START WITH 1)에서 복제가 가장 먼저 실행되어도 id 가 1 이상이고,
+ * 이후 Hibernate 가 할당하는 id 와 겹치지 않아야 한다.
+ * (native 쿼리의 NEXTVAL / dual 때문에 H2 Oracle 모드 사용)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:clone;MODE=Oracle;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ RouteService.class, PlaceService.class, JpaConfig.class })
+class RouteCloneTest {
+
+    private static final int STOPS = 60;   // 블록 2개
+
+    @Autowired
+    private RouteService routeService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private GooglePlacesClient googlePlacesClient;
+
+    @Test
+    void cloneRoute_onFreshSequence_allocatesValidIds() {
+
+        TravelUser user = em.persist(TravelUser.builder()
+                .email("clone@test.com")
+                .nickname("clone")
+                .password("pw")
+                .build());
+
+        Route source = new Route();
+        source.setUser(user);
+        source.setTitle("source");
+        source.setTotalDays(2);
+        em.persist(source);
+
+        Place place = new Place();
+        place.setGooglePlaceId("clone-place");
+        place.setName("clone-place");
+        place.setLat(37.5);
+        place.setLng(127.0);
+        em.persist(place);
+        em.flush();
+
+        // 원본 장소는 시퀀스를 쓰지 않고 직접 INSERT (복제가 시퀀스 첫 값을 받도록)
+        for (int i = 0; i < STOPS; i++) {
+            jdbcTemplate.update("INSERT INTO route_place (id, route_id, place_id, place_name, day_index, order_index) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)",
+                    100000 + i, source.getId(), place.getId(), "stop-" + i, i < 30 ? 1 : 2, i % 30 + 1);
+        }
+
+        Long copyId = routeService.cloneRoute(source.getId(), () -> "clone@test.com");
+        em.flush();
+        em.clear();
+
+        List<long[]> copies = jdbcTemplate.query(
+                "SELECT id, day_index, order_index FROM route_place WHERE route_id = ? ORDER BY day_index, order_index",
+                (rs, n) -> new long[] { rs.getLong(1), rs.getLong(2), rs.getLong(3) }, copyId);
+
+        assertThat(copies).hasSize(STOPS);
+        assertThat(copies).allSatisfy(row -> assertThat(row[0]).isPositive());
+        assertThat(copies.stream().mapToLong(row -> row[0]).distinct().count()).isEqualTo(STOPS);
+        assertThat(copies.get(0)[1]).isEqualTo(1);
+        assertThat(copies.get(STOPS - 1)[1]).isEqualTo(2);
+        assertThat(copies.get(STOPS - 1)[2]).isEqualTo(30);
+
+        // 복제 후 Hibernate 가 할당한 id 와 겹치지 않음 (겹치면 PK 위반)
+        Route copy = em.find(Route.class, copyId);
+        Place ref = em.find(Place.class, place.getId());
+        for (int i = 0; i < STOPS; i++) {
+            RoutePlace rp = new RoutePlace();
+            rp.setRoute(copy);
+            rp.setPlace(ref);
+            rp.setPlaceName("after-" + i);
+            rp.setDayIndex(3);
+            rp.setOrderIndex(i + 1);
+            em.persist(rp);
+        }
+        em.flush();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT id) FROM route_place WHERE route_id = ?", Integer.class, copyId))
+                .isEqualTo(STOPS * 2);
+    }
+}
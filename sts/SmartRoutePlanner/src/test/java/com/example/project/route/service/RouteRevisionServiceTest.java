@@ -0,0 +1,138 @@
+package com.example.project.route.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.project.route.domain.RouteRevision;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 이력 기록(FULL / DELTA)과 복원(replay)이 같은 상태를 만드는지 확인한다.
+ * (저장소 없이 nextRevision 결과를 메모리에 쌓아 findChain 과 같은 범위로 복원)
+ */
+class RouteRevisionServiceTest {
+
+    private static final long ROUTE_ID = 1L;
+
+    private RouteRevisionService service;
+    private final List<RouteRevision> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        service = new RouteRevisionService(null, null, null, null, null, new ObjectMapper(), null, null);
+        ReflectionTestUtils.setField(service, "checkpointInterval", 3);
+    }
+
+    @Test
+    void changedDays_reportsOnlyDaysWithinCurrentTotal() {
+        RouteRevisionService.Snapshot before = snapshot("제주", 3, Map.of(1, List.of(1L, 2L), 2, List.of(3L), 3, List.of(4L)));
+        RouteRevisionService.Snapshot after = snapshot("제주", 2, Map.of(1, List.of(2L, 1L), 2, List.of(3L)));
+
+        assertThat(RouteRevisionService.changedDays(before, after))
+                .containsOnlyKeys(1)
+                .containsEntry(1, List.of(2L, 1L));
+    }
+
+    @Test
+    void unchangedState_recordsNothing() {
+        RouteRevisionService.Snapshot state = snapshot("제주", 1, Map.of(1, List.of(1L)));
+        record(state);
+
+        assertThat(service.nextRevision(ROUTE_ID, chain(), state)).isNull();
+    }
+
+    @Test
+    void replay_restoresEveryRecordedVersion() {
+        List<RouteRevisionService.Snapshot> states = List.of(
+                snapshot("제주", 2, Map.of(1, List.of(1L, 2L), 2, List.of(3L))),
+                snapshot("제주", 2, Map.of(1, List.of(2L, 1L), 2, List.of(3L))),
+                snapshot("제주 여행", 2, Map.of(1, List.of(2L, 1L), 2, List.of(3L))),
+                snapshot("제주 여행", 3, Map.of(1, List.of(2L, 1L), 2, List.of(3L), 3, List.of(5L))),
+                snapshot("제주 여행", 3, Map.of(1, List.of(2L), 2, List.of(3L), 3, List.of(5L))));
+
+        for (RouteRevisionService.Snapshot state : states) {
+            record(state);
+            assertSameState(service.replay(chain()), state);
+        }
+    }
+
+    @Test
+    void shrinkingThenGrowing_doesNotRevivePlacesOfDroppedDays() {
+        record(snapshot("제주", 3, Map.of(1, List.of(1L), 2, List.of(2L), 3, List.of(3L))));
+        record(snapshot("제주", 1, Map.of(1, List.of(1L))));
+
+        // 다시 3일로 늘렸지만 2·3일차는 비어 있음
+        RouteRevisionService.Snapshot grown = snapshot("제주", 3, Map.of(1, List.of(1L)));
+        RouteRevision revision = record(grown);
+
+        assertThat(revision.getKind()).isEqualTo(RouteRevision.Kind.DELTA);
+        assertSameState(service.replay(chain()), grown);
+        assertThat(service.replay(chain()).days).containsOnlyKeys(1);
+    }
+
+    @Test
+    void checkpointInterval_startsNewFullVersion() {
+        List<RouteRevision.Kind> kinds = new ArrayList<>();
+        for (long i = 1; i <= 7; i++) {
+            RouteRevisionService.Snapshot state = snapshot("제주", 2, Map.of(1, List.of(i), 2, List.of(100L + i)));
+            kinds.add(record(state).getKind());
+            assertSameState(service.replay(chain()), state);
+        }
+
+        // interval 3: FULL 뒤 DELTA 2개마다 다시 FULL
+        assertThat(kinds).containsExactly(
+                RouteRevision.Kind.FULL, RouteRevision.Kind.DELTA, RouteRevision.Kind.DELTA,
+                RouteRevision.Kind.FULL, RouteRevision.Kind.DELTA, RouteRevision.Kind.DELTA,
+                RouteRevision.Kind.FULL);
+        assertThat(chain()).hasSize(1);
+    }
+
+    // ============================================================
+    // 내부
+    // ============================================================
+
+    private RouteRevision record(RouteRevisionService.Snapshot state) {
+        RouteRevision revision = service.nextRevision(ROUTE_ID, chain(), state);
+        assertThat(revision).isNotNull();
+        saved.add(revision);
+        return revision;
+    }
+
+    /** RouteRevisionRepository.findChain 과 같은 범위: 마지막 FULL 부터 최신 버전까지 */
+    private List<RouteRevision> chain() {
+        int from = 0;
+        for (int i = 0; i < saved.size(); i++) {
+            if (saved.get(i).getKind() == RouteRevision.Kind.FULL) {
+                from = i;
+            }
+        }
+        return saved.subList(from, saved.size());
+    }
+
+    private static RouteRevisionService.Snapshot snapshot(String title, int totalDays, Map<Integer, List<Long>> days) {
+        RouteRevisionService.Snapshot snapshot = new RouteRevisionService.Snapshot();
+        snapshot.title = title;
+        snapshot.startDate = LocalDate.of(2025, 5, 1);
+        snapshot.endDate = snapshot.startDate.plusDays(totalDays - 1);
+        snapshot.totalDays = totalDays;
+        snapshot.days.putAll(days);
+        return snapshot;
+    }
+
+    private static void assertSameState(RouteRevisionService.Snapshot actual, RouteRevisionService.Snapshot expected) {
+        assertThat(actual.sameHeader(expected)).isTrue();
+        for (int day = 1; day <= expected.totalDays; day++) {
+            assertThat(actual.days.getOrDefault(day, List.of()))
+                    .as("day %d", day)
+                    .isEqualTo(expected.days.getOrDefault(day, List.of()));
+        }
+    }
+}
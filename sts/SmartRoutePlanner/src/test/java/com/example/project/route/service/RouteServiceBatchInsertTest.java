@@ -0,0 +1,99 @@
+package com.example.project.route.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import com.example.project.global.config.JpaConfig;
+import com.example.project.member.domain.TravelUser;
+import com.example.project.place.domain.Place;
+import com.example.project.place.service.GooglePlacesClient;
+import com.example.project.place.service.PlaceService;
+import com.example.project.route.dto.RouteCreateRequestDto;
+
+/**
+ * 일정 저장 시 RoutePlace INSERT 가 JDBC 배치로 묶이는지 확인한다.
+ * (장소는 미리 저장해 두어 Google API 호출 없음)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ RouteService.class, PlaceService.class, JpaConfig.class })
+class RouteServiceBatchInsertTest {
+
+    private static final int DAYS = 3;
+    private static final int PLACES_PER_DAY = 10;
+
+    @Autowired
+    private RouteService routeService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @MockBean
+    private GooglePlacesClient googlePlacesClient;
+
+    @Test
+    void createRoute_batchesRoutePlaceInserts() {
+
+        TravelUser user = em.persist(TravelUser.builder()
+                .email("batch@test.com")
+                .nickname("batch")
+                .password("pw")
+                .build());
+
+        RouteCreateRequestDto dto = new RouteCreateRequestDto();
+        dto.setMemberId(user.getId().longValue());
+        dto.setTitle("30 stops");
+        dto.setStartDate(LocalDate.of(2025, 1, 1));
+        dto.setEndDate(LocalDate.of(2025, 1, 3));
+
+        List<List<RouteCreateRequestDto.SimplePlaceDto>> days = new ArrayList<>();
+        for (int d = 0; d < DAYS; d++) {
+            List<RouteCreateRequestDto.SimplePlaceDto> day = new ArrayList<>();
+            for (int i = 0; i < PLACES_PER_DAY; i++) {
+                String googleId = "place-" + d + "-" + i;
+
+                Place place = new Place();
+                place.setGooglePlaceId(googleId);
+                place.setName(googleId);
+                place.setLat(37.5 + d * 0.01 + i * 0.001);
+                place.setLng(127.0 + i * 0.001);
+                em.persist(place);
+
+                RouteCreateRequestDto.SimplePlaceDto sp = new RouteCreateRequestDto.SimplePlaceDto();
+                sp.setPlaceId(googleId);
+                sp.setPlaceName(googleId);
+                day.add(sp);
+            }
+            days.add(day);
+        }
+        dto.setPlaces(days);
+
+        em.flush();
+        em.clear();
+
+        Statistics stats = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        routeService.createRoute(dto);
+        em.flush();
+
+        // Route 1건 + RoutePlace 30건
+        assertThat(stats.getEntityInsertCount()).isEqualTo(1 + DAYS * PLACES_PER_DAY);
+
+        // 회원 조회 1 + 장소 IN 조회 1 + 시퀀스 조회(일정/장소) + Route INSERT 1 + RoutePlace 배치 INSERT 1
+        // 장소마다 INSERT 를 따로 준비하면 30 을 넘는다.
+        assertThat(stats.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+    }
+}